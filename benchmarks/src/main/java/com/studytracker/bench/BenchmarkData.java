@@ -0,0 +1,75 @@
+package com.studytracker.bench;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.EmbeddedBackend;
+import com.studytracker.model.StudyGoal;
+import com.studytracker.model.StudyLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Builds the data sets the benchmarks run on. A fixed seed gives every run
+ * the same data, so reports from different releases are comparable.
+ */
+final class BenchmarkData {
+    static final long SEED = 42;
+    static final String[] SUBJECTS = {
+        "Mathematics", "Physics", "Chemistry", "Biology", "History", "Geography",
+        "Literature", "Computer Science", "Economics", "Art", "Music", "Languages"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Opens a new embedded database in a temporary directory and logs in as
+     * the sample user
+     */
+    static DatabaseManager openDatabase(Path dir) {
+        DatabaseManager db = new DatabaseManager(new EmbeddedBackend(dir.resolve("study_tracker").toString()));
+        if (!db.login("rahul", "password123")) {
+            throw new IllegalStateException("Sample user missing from the embedded schema");
+        }
+        return db;
+    }
+
+    /**
+     * Adds study logs spread over the past year and one goal of each period
+     * for the first few subjects
+     */
+    static void fill(DatabaseManager db, int logCount) {
+        int userId = db.getCurrentUser().getId();
+        Random random = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        List<StudyLog> logs = new ArrayList<>(logCount);
+        for (int i = 0; i < logCount; i++) {
+            String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+            double hours = 0.25 * (1 + random.nextInt(16));
+            LocalDate day = today.minusDays(random.nextInt(365));
+            logs.add(new StudyLog(userId, subject, hours, Date.valueOf(day), "Benchmark session " + i));
+        }
+        if (db.addStudyLogs(logs) != logCount) {
+            throw new IllegalStateException("Could not add benchmark logs");
+        }
+
+        StudyGoal.PeriodType[] periods = StudyGoal.PeriodType.values();
+        for (int i = 0; i < 6; i++) {
+            db.addStudyGoal(new StudyGoal(userId, SUBJECTS[i], 10 + i, periods[i % periods.length]));
+        }
+    }
+
+    static void delete(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
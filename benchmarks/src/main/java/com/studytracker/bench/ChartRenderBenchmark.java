@@ -0,0 +1,75 @@
+package com.studytracker.bench;
+
+import com.studytracker.model.StudySummary;
+import com.studytracker.ui.StudyChartRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draws the statistics charts into an off-screen image, as the statistics
+ * panel does before copying the image to the screen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChartRenderBenchmark {
+    @Param({StudyChartRenderer.BAR_CHART, StudyChartRenderer.PIE_CHART, StudyChartRenderer.LINE_CHART})
+    String chartType;
+
+    @Param({"12"})
+    int subjects;
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 500;
+
+    private StudySummary summary;
+    private BufferedImage image;
+    private Graphics2D g2d;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        long today = LocalDate.now().toEpochDay();
+        StudySummary.Builder builder = new StudySummary.Builder(subjects);
+        for (int i = 0; i < subjects; i++) {
+            int sessions = 5 + random.nextInt(60);
+            double hours = sessions * (0.5 + random.nextDouble() * 2);
+            builder.add(BenchmarkData.SUBJECTS[i % BenchmarkData.SUBJECTS.length], hours, sessions,
+                        hours / sessions, today - 365 + random.nextInt(100), today - random.nextInt(30));
+        }
+        summary = builder.build();
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        g2d = image.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage render() {
+        StudyChartRenderer.render(g2d, summary, chartType, WIDTH, HEIGHT, 1.0);
+        return image;
+    }
+}
@@ -0,0 +1,98 @@
+package com.studytracker.bench;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.StudyLog;
+import com.studytracker.model.StudySummary;
+import com.studytracker.model.UserContextService;
+import com.studytracker.model.UserContextSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads through DatabaseManager against an embedded H2 database: result set
+ * to StudyLog mapping, the subject summary behind the statistics charts, and
+ * goal progress both from SQL and from the in-memory user context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseBenchmark {
+    @Param({"10000"})
+    int logCount;
+
+    private Path dir;
+    private DatabaseManager db;
+    private UserContextService context;
+    private int userId;
+    private Date yearStart;
+    private Date today;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("study-bench");
+        db = BenchmarkData.openDatabase(dir);
+        BenchmarkData.fill(db, logCount);
+        userId = db.getCurrentUser().getId();
+        yearStart = Date.valueOf(LocalDate.now().minusYears(1));
+        today = Date.valueOf(LocalDate.now());
+
+        context = new UserContextService(db);
+        db.addStudyDataListener(context);
+        context.getSnapshot(); // Load once; the benchmark measures rebuilds from memory
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        db.close();
+        BenchmarkData.delete(dir);
+    }
+
+    /**
+     * First page of the study log table, 500 rows mapped to StudyLog
+     */
+    @Benchmark
+    public List<StudyLog> studyLogPage() {
+        return db.getStudyLogPage(null, 500);
+    }
+
+    @Benchmark
+    public StudySummary subjectSummary() {
+        return db.getSubjectSummary(yearStart, today);
+    }
+
+    @Benchmark
+    public Map<Integer, Double> goalProgressSql() {
+        return db.getGoalProgress();
+    }
+
+    /**
+     * Goal progress, streak and totals rebuilt in memory after a write event
+     */
+    @Benchmark
+    public UserContextSnapshot goalProgressInMemory() {
+        context.studyTimeChanged(userId, BenchmarkData.SUBJECTS[0], today, 0.0, 0);
+        return context.getSnapshot();
+    }
+}
@@ -0,0 +1,284 @@
+package com.studytracker.bench;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.StudyLog;
+
+import java.io.File;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Headless load test for the data layer. Fills a database with
+ * WorkloadGenerator users, then runs concurrent clients that each act like
+ * one desktop app: log in as a random user and do a few reads and writes,
+ * over and over. Prints throughput and latency percentiles per operation.
+ * <p>
+ * Usage: LoadDriver [--users N] [--years N] [--clients N] [--duration seconds]
+ * [--warmup seconds] [--seed N] [--end-date YYYY-MM-DD] [--backend embedded|mysql]
+ * [--db-path path]
+ * <p>
+ * The embedded backend uses target/load-db/study_tracker by default. The
+ * MySQL backend uses the db.url, db.user and db.password settings.
+ */
+public class LoadDriver {
+
+    /**
+     * Operations in a client session
+     */
+    enum Operation {
+        LOGIN,
+        ADD_LOG,        // Study log tab: save a session
+        LOG_PAGE,       // Study log tab: first page of the table
+        LOG_HISTORY,    // All of a user's logs, which grows with their history
+        STATS_REFRESH,  // Statistics tab: this month's subject summary
+        GOAL_PROGRESS   // Goals tab: hours towards each active goal
+    }
+
+    // Relative frequency of each operation after login
+    private static final Map<Operation, Integer> MIX = new EnumMap<>(Operation.class);
+    static {
+        MIX.put(Operation.ADD_LOG, 20);
+        MIX.put(Operation.LOG_PAGE, 20);
+        MIX.put(Operation.LOG_HISTORY, 5);
+        MIX.put(Operation.STATS_REFRESH, 30);
+        MIX.put(Operation.GOAL_PROGRESS, 25);
+    }
+
+    private int users = 50;
+    private int years = 2;
+    private int clients = 8;
+    private int durationSeconds = 30;
+    private int warmupSeconds = 5;
+    private long seed = BenchmarkData.SEED;
+    private LocalDate endDate = LocalDate.now();
+    private String backend = "embedded";
+    private String dbPath = "target/load-db/study_tracker";
+
+    public static void main(String[] args) throws Exception {
+        LoadDriver driver = new LoadDriver();
+        driver.parse(args);
+        driver.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--users" -> users = Integer.parseInt(value);
+                case "--years" -> years = Integer.parseInt(value);
+                case "--clients" -> clients = Integer.parseInt(value);
+                case "--duration" -> durationSeconds = Integer.parseInt(value);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--end-date" -> endDate = LocalDate.parse(value);
+                case "--backend" -> backend = value;
+                case "--db-path" -> dbPath = value;
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+            i++;
+        }
+    }
+
+    private void run() throws Exception {
+        System.setProperty("db.backend", backend);
+        System.setProperty("db.embedded.path", new File(dbPath).getAbsolutePath());
+        // Each client is one app instance; a small pool each, like a single user
+        System.setProperty("db.pool.minSize", "1");
+        System.setProperty("db.pool.maxSize", "2");
+
+        DatabaseManager setup = new DatabaseManager();
+        long started = System.nanoTime();
+        long added = new WorkloadGenerator(seed, endDate).generate(setup, users, years);
+        System.out.printf("Data: %d users x %d years, %d logs added in %.1f s%n",
+                          users, years, added, (System.nanoTime() - started) / 1e9);
+        setup.close();
+
+        Client[] workers = new Client[clients];
+        for (int i = 0; i < clients; i++) {
+            workers[i] = new Client(new Random(seed + 1000 + i));
+        }
+
+        // Warm up, then measure with fresh recorders
+        if (warmupSeconds > 0) {
+            runClients(workers, warmupSeconds);
+            for (Client worker : workers) {
+                worker.reset();
+            }
+        }
+        long elapsed = runClients(workers, durationSeconds);
+        report(workers, elapsed);
+
+        for (Client worker : workers) {
+            worker.db.close();
+        }
+    }
+
+    /**
+     * Runs every client until the time is up
+     * @return the elapsed time in nanoseconds
+     */
+    private long runClients(Client[] workers, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(workers.length);
+        long started = System.nanoTime();
+        for (int i = 0; i < workers.length; i++) {
+            Client worker = workers[i];
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        worker.session();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        return System.nanoTime() - started;
+    }
+
+    private void report(Client[] workers, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%nClients: %d, measured %.1f s%n", workers.length, seconds);
+        System.out.printf("%-14s %9s %9s %9s %9s %9s %9s %7s%n",
+                          "operation", "count", "ops/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+
+        long totalCount = 0;
+        for (Operation op : Operation.values()) {
+            Latencies merged = new Latencies();
+            int errors = 0;
+            for (Client worker : workers) {
+                merged.addAll(worker.latencies.get(op));
+                errors += worker.errors.get(op)[0];
+            }
+            long[] sorted = merged.sorted();
+            totalCount += sorted.length;
+            if (sorted.length == 0) {
+                continue;
+            }
+            System.out.printf("%-14s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                              op.name().toLowerCase(), sorted.length, sorted.length / seconds,
+                              percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                              sorted[sorted.length - 1] / 1e6, errors);
+        }
+        System.out.printf("%-14s %9d %9.1f%n", "total", totalCount, totalCount / seconds);
+    }
+
+    /**
+     * Nearest-rank percentile, in milliseconds
+     */
+    private static double percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    /**
+     * One simulated app instance with its own connection pool
+     */
+    private class Client {
+        final DatabaseManager db = new DatabaseManager();
+        final Random random;
+        final Map<Operation, Latencies> latencies = new EnumMap<>(Operation.class);
+        final Map<Operation, int[]> errors = new EnumMap<>(Operation.class);
+
+        Client(Random random) {
+            this.random = random;
+            reset();
+        }
+
+        void reset() {
+            for (Operation op : Operation.values()) {
+                latencies.put(op, new Latencies());
+                errors.put(op, new int[1]);
+            }
+        }
+
+        /**
+         * Logs in as a random user and does five to fifteen operations
+         */
+        void session() {
+            String username = WorkloadGenerator.username(random.nextInt(users));
+            if (!time(Operation.LOGIN, () -> db.login(username, WorkloadGenerator.PASSWORD))) {
+                return;
+            }
+            int userId = db.getCurrentUser().getId();
+            int actions = 5 + random.nextInt(11);
+            for (int i = 0; i < actions; i++) {
+                switch (pick()) {
+                    case ADD_LOG -> time(Operation.ADD_LOG, () -> db.addStudyLog(new StudyLog(userId,
+                        BenchmarkData.SUBJECTS[random.nextInt(BenchmarkData.SUBJECTS.length)],
+                        0.25 * (1 + random.nextInt(12)), Date.valueOf(LocalDate.now()), "")));
+                    case LOG_PAGE -> time(Operation.LOG_PAGE, () -> db.getStudyLogPage(null, 100) != null);
+                    case LOG_HISTORY -> time(Operation.LOG_HISTORY, () -> db.getStudyLogs() != null);
+                    case STATS_REFRESH -> time(Operation.STATS_REFRESH, () -> {
+                        LocalDate today = LocalDate.now();
+                        return db.getSubjectSummary(Date.valueOf(today.withDayOfMonth(1)),
+                                                    Date.valueOf(today)) != null;
+                    });
+                    case GOAL_PROGRESS -> time(Operation.GOAL_PROGRESS, () -> db.getGoalProgress() != null);
+                    default -> { }
+                }
+            }
+        }
+
+        private Operation pick() {
+            int total = 0;
+            for (int weight : MIX.values()) {
+                total += weight;
+            }
+            int r = random.nextInt(total);
+            for (Map.Entry<Operation, Integer> entry : MIX.entrySet()) {
+                r -= entry.getValue();
+                if (r < 0) {
+                    return entry.getKey();
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private boolean time(Operation op, BooleanSupplier call) {
+            long start = System.nanoTime();
+            boolean ok = call.getAsBoolean();
+            latencies.get(op).add(System.nanoTime() - start);
+            if (!ok) {
+                errors.get(op)[0]++;
+            }
+            return ok;
+        }
+    }
+
+    /**
+     * Growable array of latencies in nanoseconds, used by one thread at a time
+     */
+    private static class Latencies {
+        private long[] values = new long[1024];
+        private int size = 0;
+
+        void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
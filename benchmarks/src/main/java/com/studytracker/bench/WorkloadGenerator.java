@@ -0,0 +1,176 @@
+package com.studytracker.bench;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.StudyGoal;
+import com.studytracker.model.StudyLog;
+import com.studytracker.model.User;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates synthetic users with years of study logs and goals. Every user is
+ * generated from the seed and their index alone, so the same arguments
+ * always give the same data, and users can be added without changing the
+ * existing ones.
+ * <p>
+ * Each user studies a handful of subjects, favouring a few of them. They
+ * study on most weekdays and fewer weekend days, more in exam months, with
+ * one to three sessions of mostly one to two hours on the days they study.
+ */
+public class WorkloadGenerator {
+    public static final String PASSWORD = "load-test";
+
+    // Hours are stored with two decimals; sessions are whole quarter hours
+    private static final double MIN_SESSION_HOURS = 0.25;
+    private static final double MAX_SESSION_HOURS = 6.0;
+    private static final int INSERT_BATCH = 1000;
+
+    private final long seed;
+    private final LocalDate endDate;
+
+    /**
+     * @param endDate last day logs are generated for; pass a fixed date for identical data between runs
+     */
+    public WorkloadGenerator(long seed, LocalDate endDate) {
+        this.seed = seed;
+        this.endDate = endDate;
+    }
+
+    public static String username(int index) {
+        return String.format("load_user_%05d", index);
+    }
+
+    /**
+     * Creates users 0 to users - 1 with the given years of history. Users
+     * that already exist are left as they are, so a database is only filled once.
+     * @return the number of logs added
+     */
+    public long generate(DatabaseManager db, int users, int years) {
+        long added = 0;
+        for (int i = 0; i < users; i++) {
+            String username = username(i);
+            if (db.login(username, PASSWORD)) {
+                continue;
+            }
+            if (!db.registerUser(new User(username, PASSWORD, username + "@example.com", "Load User " + i))
+                    || !db.login(username, PASSWORD)) {
+                throw new IllegalStateException("Could not create " + username);
+            }
+            added += generateUser(db, db.getCurrentUser().getId(), new Random(seed * 31 + i), years);
+        }
+        return added;
+    }
+
+    private long generateUser(DatabaseManager db, int userId, Random random, int years) {
+        // Three to six subjects, the first studied most
+        int subjectCount = 3 + random.nextInt(4);
+        String[] subjects = pickSubjects(random, subjectCount);
+        double[] weights = new double[subjectCount];
+        for (int i = 0; i < subjectCount; i++) {
+            weights[i] = 1.0 / (i + 1);
+        }
+
+        // How regularly this user studies, and how long their sessions tend to be
+        double diligence = 0.35 + random.nextDouble() * 0.55;
+        double typicalHours = 0.75 + random.nextDouble() * 1.25;
+
+        List<StudyLog> batch = new ArrayList<>(INSERT_BATCH);
+        long added = 0;
+        for (LocalDate day = endDate.minusYears(years).plusDays(1); !day.isAfter(endDate); day = day.plusDays(1)) {
+            if (random.nextDouble() >= studyChance(day, diligence)) {
+                continue;
+            }
+            int sessions = 1 + (random.nextDouble() < 0.35 ? 1 : 0) + (random.nextDouble() < 0.1 ? 1 : 0);
+            for (int s = 0; s < sessions; s++) {
+                String subject = subjects[pickWeighted(random, weights)];
+                batch.add(new StudyLog(userId, subject, sessionHours(random, typicalHours), Date.valueOf(day),
+                                       random.nextDouble() < 0.3 ? "Chapter review and practice problems" : ""));
+            }
+            if (batch.size() >= INSERT_BATCH) {
+                added += insert(db, batch);
+            }
+        }
+        added += insert(db, batch);
+
+        // A goal for each of the main subjects, sized to what the user usually does
+        StudyGoal.PeriodType[] periods = StudyGoal.PeriodType.values();
+        for (int i = 0; i < Math.min(3, subjectCount); i++) {
+            StudyGoal.PeriodType period = periods[random.nextInt(periods.length)];
+            double perDay = typicalHours * diligence * weights[i];
+            double days = period == StudyGoal.PeriodType.DAILY ? 1 : period == StudyGoal.PeriodType.WEEKLY ? 7 : 30;
+            double target = Math.max(1, Math.round(perDay * days * (0.8 + random.nextDouble() * 0.6)));
+            if (!db.addStudyGoal(new StudyGoal(userId, subjects[i], target, period))) {
+                throw new IllegalStateException("Could not add a goal for user " + userId);
+            }
+        }
+        return added;
+    }
+
+    private static long insert(DatabaseManager db, List<StudyLog> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int added = db.addStudyLogs(batch);
+        if (added != batch.size()) {
+            throw new IllegalStateException("Could not add generated logs");
+        }
+        batch.clear();
+        return added;
+    }
+
+    /**
+     * Fewer sessions at weekends and in the summer holidays, more before exams
+     */
+    private static double studyChance(LocalDate day, double diligence) {
+        double chance = diligence;
+        if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            chance *= 0.5;
+        }
+        Month month = day.getMonth();
+        if (month == Month.JULY || month == Month.AUGUST) {
+            chance *= 0.4;
+        } else if (month == Month.MAY || month == Month.DECEMBER) {
+            chance = Math.min(0.95, chance * 1.3);
+        }
+        return chance;
+    }
+
+    /**
+     * Log-normal around the user's typical length, rounded to a quarter hour
+     */
+    private static double sessionHours(Random random, double typicalHours) {
+        double hours = typicalHours * Math.exp(random.nextGaussian() * 0.5);
+        hours = Math.round(hours * 4) / 4.0;
+        return Math.max(MIN_SESSION_HOURS, Math.min(MAX_SESSION_HOURS, hours));
+    }
+
+    private static String[] pickSubjects(Random random, int count) {
+        List<String> all = new ArrayList<>(List.of(BenchmarkData.SUBJECTS));
+        String[] picked = new String[count];
+        for (int i = 0; i < count; i++) {
+            picked[i] = all.remove(random.nextInt(all.size()));
+        }
+        return picked;
+    }
+
+    private static int pickWeighted(Random random, double[] weights) {
+        double total = 0;
+        for (double w : weights) {
+            total += w;
+        }
+        double r = random.nextDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
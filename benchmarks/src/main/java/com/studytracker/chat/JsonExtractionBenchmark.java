@@ -0,0 +1,96 @@
+package com.studytracker.chat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pulls the reply text out of Gemini responses the way GeminiChatClient
+ * does, from a whole generateContent body and from a streamed array of
+ * chunks. Lives in the chat package to reach the package-private reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonExtractionBenchmark {
+    // Chunks in a streamed reply; each carries a sentence or two
+    private static final int STREAM_CHUNKS = 40;
+
+    private byte[] singleResponse;
+    private byte[] streamedResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < STREAM_CHUNKS; i++) {
+            text.append(chunkText(i));
+        }
+        singleResponse = response(text.toString()).getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder stream = new StringBuilder("[");
+        for (int i = 0; i < STREAM_CHUNKS; i++) {
+            stream.append(i > 0 ? ",\r\n" : "").append(response(chunkText(i)));
+        }
+        streamedResponse = stream.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String chunkText(int i) {
+        return "**Tip " + (i + 1) + ":** Study in focused \\\"blocks\\\" of 25 minutes,\\n" +
+               "then rest for 5 \\u2013 it keeps attention high. ";
+    }
+
+    /**
+     * A response with the fields Gemini sends around the text, which the reader must skip
+     */
+    private static String response(String text) {
+        return "{\"candidates\": [{\"content\": {\"parts\": [{\"text\": \"" + text + "\"}], \"role\": \"model\"}," +
+               "\"finishReason\": \"STOP\", \"index\": 0, \"safetyRatings\": [" +
+               "{\"category\": \"HARM_CATEGORY_HARASSMENT\", \"probability\": \"NEGLIGIBLE\"}," +
+               "{\"category\": \"HARM_CATEGORY_DANGEROUS_CONTENT\", \"probability\": \"NEGLIGIBLE\"}]}]," +
+               "\"usageMetadata\": {\"promptTokenCount\": 312, \"candidatesTokenCount\": 845, " +
+               "\"totalTokenCount\": 1157}, \"modelVersion\": \"gemini-2.0-flash\"}";
+    }
+
+    private static JsonPullReader open(byte[] body) {
+        return new JsonPullReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String generateContent() throws IOException {
+        StringBuilder reply = new StringBuilder();
+        try (JsonPullReader json = open(singleResponse)) {
+            GeminiChatClient.readResponse(json, reply::append);
+        }
+        return reply.toString();
+    }
+
+    @Benchmark
+    public String streamGenerateContent() throws IOException {
+        StringBuilder reply = new StringBuilder();
+        try (JsonPullReader json = open(streamedResponse)) {
+            json.beginArray();
+            while (json.hasNext()) {
+                GeminiChatClient.readResponse(json, reply::append);
+            }
+            json.endArray();
+        }
+        return reply.toString();
+    }
+}
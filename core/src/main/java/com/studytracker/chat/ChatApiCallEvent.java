@@ -0,0 +1,35 @@
+package com.studytracker.chat;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one call to the Gemini API, from sending the
+ * request to reading the last byte of the reply
+ */
+@Name("com.studytracker.ChatApiCall")
+@Label("Chat API Call")
+@Category({"Study Tracker", "Chat"})
+@Description("A request to the Gemini API and the reading of its reply")
+class ChatApiCallEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+
+    @Label("Status Code")
+    @Description("HTTP status, or 0 if no response arrived")
+    int statusCode;
+
+    @Label("Bytes Out")
+    @DataAmount
+    long bytesOut;
+
+    @Label("Bytes In")
+    @DataAmount
+    long bytesIn;
+
+    @Label("Cancelled")
+    boolean cancelled;
+}
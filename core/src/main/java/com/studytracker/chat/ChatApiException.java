@@ -0,0 +1,36 @@
+package com.studytracker.chat;
+
+import java.io.IOException;
+
+/**
+ * The model's API answered with an error status
+ */
+public class ChatApiException extends IOException {
+    private final int statusCode;
+    private final long retryAfterMillis;
+
+    /**
+     * @param retryAfterMillis delay the server asked for before retrying, or 0 if none
+     */
+    public ChatApiException(int statusCode, String message, long retryAfterMillis) {
+        super("API error " + statusCode + ": " + message);
+        this.statusCode = statusCode;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /**
+     * Checks whether the same request may succeed later: rate limiting (429)
+     * and server errors (5xx)
+     */
+    public boolean isRetryable() {
+        return statusCode == 429 || statusCode >= 500;
+    }
+}
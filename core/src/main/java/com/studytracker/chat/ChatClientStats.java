@@ -0,0 +1,75 @@
+package com.studytracker.chat;
+
+/**
+ * Point-in-time snapshot of chat request, throttling and retry counters
+ */
+public class ChatClientStats {
+    private final long requests;
+    private final long coalesced;
+    private final long apiCalls;
+    private final long throttled;
+    private final long throttleWaitNanos;
+    private final long retries;
+    private final long failures;
+
+    public ChatClientStats(long requests, long coalesced, long apiCalls, long throttled,
+                           long throttleWaitNanos, long retries, long failures) {
+        this.requests = requests;
+        this.coalesced = coalesced;
+        this.apiCalls = apiCalls;
+        this.throttled = throttled;
+        this.throttleWaitNanos = throttleWaitNanos;
+        this.retries = retries;
+        this.failures = failures;
+    }
+
+    /**
+     * Gets the number of requests made by callers, including coalesced ones
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets the number of requests that joined an identical one already in flight
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Gets the number of calls sent to the API, including retries
+     */
+    public long getApiCalls() {
+        return apiCalls;
+    }
+
+    /**
+     * Gets the number of API calls that had to wait for the rate limiter
+     */
+    public long getThrottled() {
+        return throttled;
+    }
+
+    public double getTotalThrottleWaitMillis() {
+        return throttleWaitNanos / 1_000_000.0;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * Gets the number of requests that failed after any retries
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "requests=%d coalesced=%d apiCalls=%d throttled=%d throttleWait=%.0fms retries=%d failures=%d",
+            requests, coalesced, apiCalls, throttled, getTotalThrottleWaitMillis(), retries, failures);
+    }
+}
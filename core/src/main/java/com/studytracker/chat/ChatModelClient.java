@@ -0,0 +1,54 @@
+package com.studytracker.chat;
+
+import com.studytracker.util.AppConfig;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * A language model the study assistant can send prompts to
+ */
+public interface ChatModelClient {
+
+    /**
+     * Sends a prompt and waits for the complete reply
+     * @param prompt the full prompt, including any user context
+     * @return the reply text
+     * @throws IOException if the model cannot be reached or returns an error
+     */
+    String generate(String prompt) throws IOException, InterruptedException;
+
+    /**
+     * Sends a prompt and passes the reply to a listener piece by piece as it
+     * is generated. Clients that cannot stream deliver the whole reply at once.
+     * @param onText receives each new piece of text, on the calling thread
+     * @param stream handle used to cancel the request from another thread
+     * @return the text received, which is partial if the stream was cancelled
+     */
+    default String stream(String prompt, Consumer<String> onText, ChatStream stream)
+            throws IOException, InterruptedException {
+        String text = generate(prompt);
+        if (!stream.isCancelled()) {
+            onText.accept(text);
+        }
+        return text;
+    }
+
+    /**
+     * Creates the client selected by the chat.client setting ("gemini" or "stub"),
+     * wrapped with the configured rate limiting and retries
+     * @param apiKey the Gemini API key
+     * @return the client, or null if Gemini is selected and there is no key
+     */
+    static ChatModelClient fromConfig(String apiKey) {
+        ChatModelClient client;
+        if (AppConfig.get("chat.client", "gemini").equalsIgnoreCase("stub")) {
+            client = new StubChatClient(AppConfig.getLong("chat.stub.latencyMillis", 0));
+        } else if (apiKey != null && !apiKey.isEmpty()) {
+            client = new GeminiChatClient(apiKey);
+        } else {
+            return null;
+        }
+        return RateLimitedChatClient.fromConfig(client);
+    }
+}
@@ -0,0 +1,57 @@
+package com.studytracker.chat;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Handle for a streaming reply that another thread can cancel. Cancelling
+ * aborts the request if no response has arrived yet, or closes the response
+ * body, which aborts it on the wire.
+ */
+public class ChatStream {
+    private volatile boolean cancelled = false;
+    private Closeable body;
+
+    /**
+     * Stops the stream. Safe to call from any thread, more than once.
+     */
+    public void cancel() {
+        Closeable toClose;
+        synchronized (this) {
+            cancelled = true;
+            toClose = body;
+            body = null;
+        }
+        closeQuietly(toClose);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers what to close on cancel, such as the pending request and
+     * then its response body, replacing anything registered before. Closes
+     * it at once if the stream was already cancelled.
+     */
+    void attach(Closeable responseBody) {
+        synchronized (this) {
+            if (!cancelled) {
+                body = responseBody;
+                return;
+            }
+        }
+        closeQuietly(responseBody);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Already failing or closed; nothing more to do
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.studytracker.chat;
+
+import com.studytracker.util.SharedScheduler;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Google Gemini client. All instances share one HttpClient, so connections
+ * (and their TLS sessions) are kept alive and reused across messages, over
+ * HTTP/2 when the server supports it. A reply that stops sending data for
+ * READ_TIMEOUT is abandoned, so a stalled server cannot hang the caller.
+ */
+public class GeminiChatClient implements ChatModelClient {
+    private static final String MODEL_URL =
+        "https://generativelanguage.googleapis.com/v1/models/gemini-1.5-flash";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    // Covers the wait for the response headers only
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    // Longest gap between bytes of a response body
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(CONNECT_TIMEOUT)
+        .build();
+
+    private final String apiKey;
+
+    public GeminiChatClient(String apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    @Override
+    public String generate(String prompt) throws IOException, InterruptedException {
+        byte[] body = requestBody(prompt);
+        ChatApiCallEvent event = new ChatApiCallEvent();
+        event.begin();
+        HttpResponse<InputStream> response = null;
+        CountingInputStream in = null;
+
+        StringBuilder text = new StringBuilder();
+        try {
+            response = send(buildRequest(":generateContent", body), new ChatStream());
+            in = new CountingInputStream(response.body());
+            try (ReadTimeout timeout = new ReadTimeout(in);
+                 JsonPullReader json = openBody(response, in)) {
+                try {
+                    readResponse(json, text::append);
+                } catch (IOException e) {
+                    throw timeout.expired ? timeout.exception() : e;
+                }
+            }
+        } finally {
+            commit(event, "generateContent", body, response, in, false);
+        }
+        if (text.length() == 0) {
+            return "I received a response but couldn't parse it properly. This may be due " +
+                   "to a change in the API response format. Please try asking a different question.";
+        }
+        return text.toString();
+    }
+
+    /**
+     * Streams the reply. The streaming endpoint returns a JSON array whose
+     * elements are partial responses, written as they are generated, so the
+     * text of each one is passed on as soon as it has been read.
+     */
+    @Override
+    public String stream(String prompt, Consumer<String> onText, ChatStream stream)
+            throws IOException, InterruptedException {
+        byte[] body = requestBody(prompt);
+        ChatApiCallEvent event = new ChatApiCallEvent();
+        event.begin();
+        HttpResponse<InputStream> response = null;
+        CountingInputStream in = null;
+
+        StringBuilder fullText = new StringBuilder();
+        try {
+            response = send(buildRequest(":streamGenerateContent", body), stream);
+            if (response == null) {
+                return "";
+            }
+            in = new CountingInputStream(response.body());
+            ReadTimeout timeout = new ReadTimeout(in);
+            try (timeout; JsonPullReader json = openBody(response, in)) {
+                json.beginArray();
+                while (json.hasNext()) {
+                    readResponse(json, text -> {
+                        fullText.append(text);
+                        onText.accept(text);
+                    });
+                }
+                json.endArray();
+            } catch (IOException e) {
+                if (!stream.isCancelled()) {
+                    throw timeout.expired ? timeout.exception() : e;
+                }
+                // Closing the body on cancel ends the read with an exception
+            }
+        } finally {
+            commit(event, "streamGenerateContent", body, response, in, stream.isCancelled());
+        }
+        return fullText.toString();
+    }
+
+    /**
+     * Sends a request and waits for the response headers. The request is
+     * registered with the stream while in flight, and the body once it
+     * arrives, so cancelling aborts the call at any point.
+     * @return the response, or null if the stream was cancelled before it arrived
+     */
+    private static HttpResponse<InputStream> send(HttpRequest request, ChatStream stream)
+            throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<InputStream>> future =
+            HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        stream.attach(() -> future.cancel(true));
+        try {
+            HttpResponse<InputStream> response = future.get();
+            stream.attach(response.body());
+            return response;
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            if (stream.isCancelled()) {
+                return null; // The client may report the abort as a failure
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    private static byte[] requestBody(String prompt) {
+        String body = "{\"contents\":[{\"parts\":[{\"text\":" + quote(prompt) + "}]}]}";
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest buildRequest(String method, byte[] body) {
+        return HttpRequest.newBuilder(URI.create(MODEL_URL + method))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .header("x-goog-api-key", apiKey)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    /**
+     * Records the call for Flight Recorder if a recording wants it
+     */
+    private static void commit(ChatApiCallEvent event, String method, byte[] body,
+                               HttpResponse<?> response, CountingInputStream in, boolean cancelled) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.statusCode = response != null ? response.statusCode() : 0;
+            event.bytesOut = body.length;
+            event.bytesIn = in != null ? in.count : 0;
+            event.cancelled = cancelled;
+            event.commit();
+        }
+    }
+
+    /**
+     * Opens a reader on a successful response body, or reads the error
+     * body and throws it if the request failed
+     */
+    private static JsonPullReader openBody(HttpResponse<InputStream> response, InputStream body) throws IOException {
+        if (response.statusCode() != 200) {
+            try (InputStream in = body) {
+                String error = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                throw new ChatApiException(response.statusCode(), error, retryAfterMillis(response));
+            }
+        }
+        return new JsonPullReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the delay from a Retry-After header given in seconds, or 0
+     */
+    private static long retryAfterMillis(HttpResponse<?> response) {
+        try {
+            return response.headers().firstValue("Retry-After")
+                .map(value -> Long.parseLong(value.trim()) * 1000)
+                .orElse(0L);
+        } catch (NumberFormatException e) {
+            return 0; // An HTTP date; fall back to our own backoff
+        }
+    }
+
+    /**
+     * Reads one GenerateContentResponse object, passing the text of each part
+     * of the first candidate to the listener. Everything else is skipped.
+     */
+    static void readResponse(JsonPullReader json, Consumer<String> onText) throws IOException {
+        json.beginObject();
+        while (json.hasNext()) {
+            if (json.nextNameEquals("candidates") && json.peek() == JsonPullReader.Token.BEGIN_ARRAY) {
+                json.beginArray();
+                if (json.hasNext()) {
+                    readCandidate(json, onText);
+                }
+                while (json.hasNext()) {
+                    json.skipValue();
+                }
+                json.endArray();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+    }
+
+    private static void readCandidate(JsonPullReader json, Consumer<String> onText) throws IOException {
+        if (json.peek() != JsonPullReader.Token.BEGIN_OBJECT) {
+            json.skipValue();
+            return;
+        }
+        json.beginObject();
+        while (json.hasNext()) {
+            if (json.nextNameEquals("content") && json.peek() == JsonPullReader.Token.BEGIN_OBJECT) {
+                json.beginObject();
+                while (json.hasNext()) {
+                    if (json.nextNameEquals("parts") && json.peek() == JsonPullReader.Token.BEGIN_ARRAY) {
+                        readParts(json, onText);
+                    } else {
+                        json.skipValue();
+                    }
+                }
+                json.endObject();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+    }
+
+    private static void readParts(JsonPullReader json, Consumer<String> onText) throws IOException {
+        json.beginArray();
+        while (json.hasNext()) {
+            if (json.peek() != JsonPullReader.Token.BEGIN_OBJECT) {
+                json.skipValue();
+                continue;
+            }
+            json.beginObject();
+            while (json.hasNext()) {
+                if (json.nextNameEquals("text") && json.peek() == JsonPullReader.Token.STRING) {
+                    onText.accept(json.nextString());
+                } else {
+                    json.skipValue();
+                }
+            }
+            json.endObject();
+        }
+        json.endArray();
+    }
+
+    /**
+     * Counts the bytes read from a response body
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        // Written by the reading thread only; read by ReadTimeout
+        volatile long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Closes a response body once no bytes have arrived for READ_TIMEOUT,
+     * which ends a blocked read with an exception. The request timeout only
+     * covers the headers, so without this a server that stalls mid-reply
+     * would block the reading thread for good.
+     */
+    private static class ReadTimeout implements Closeable {
+        private final CountingInputStream in;
+        private final ScheduledFuture<?> check;
+        // Only used by the scheduler thread
+        private long lastCount = 0;
+        private long lastProgressNanos = System.nanoTime();
+        volatile boolean expired = false;
+
+        ReadTimeout(CountingInputStream in) {
+            this.in = in;
+            this.check = SharedScheduler.get().scheduleWithFixedDelay(this::check, 1, 1, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Runs on the shared scheduler; closing the body does not block
+         */
+        private void check() {
+            long now = System.nanoTime();
+            long count = in.count;
+            if (count != lastCount) {
+                lastCount = count;
+                lastProgressNanos = now;
+            } else if (!expired && now - lastProgressNanos >= READ_TIMEOUT.toNanos()) {
+                expired = true;
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    // The read fails either way
+                }
+            }
+        }
+
+        HttpTimeoutException exception() {
+            return new HttpTimeoutException("No data received from the chat API for "
+                                            + READ_TIMEOUT.getSeconds() + " s");
+        }
+
+        @Override
+        public void close() {
+            check.cancel(false);
+        }
+    }
+
+    /**
+     * Encodes a string as a JSON string literal
+     */
+    static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,281 @@
+package com.studytracker.chat;
+
+import com.studytracker.util.AppConfig;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Wraps a model client to protect the provider's quota. API calls pass
+ * through a token bucket; a prompt that is already in flight is not sent
+ * again, its callers share the one reply; and rate limit (429) or server
+ * (5xx) errors are retried with exponential backoff and jitter, as long as
+ * no text has been delivered yet.
+ */
+public class RateLimitedChatClient implements ChatModelClient {
+    // Runs the shared API calls; callers wait on them and can leave early
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private final ChatModelClient delegate;
+    private final TokenBucket bucket;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    // Calls in flight, keyed by prompt
+    private final ConcurrentHashMap<String, SharedCall> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong apiCalls = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong throttleWaitNanos = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * @param bucket limits API calls, or null for no limit
+     * @param maxAttempts tries per request, including the first
+     * @param baseDelayMillis backoff before the first retry; doubles each time
+     * @param maxDelayMillis upper bound on the backoff
+     */
+    public RateLimitedChatClient(ChatModelClient delegate, TokenBucket bucket,
+                                 int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.delegate = delegate;
+        this.bucket = bucket;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    private static ExecutorService createExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "chat-request-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Wraps a client using the chat.rateLimit.* and chat.retry.* settings
+     */
+    public static RateLimitedChatClient fromConfig(ChatModelClient delegate) {
+        double qps = AppConfig.getDouble("chat.rateLimit.qps", 0.5);
+        int burst = AppConfig.getInt("chat.rateLimit.burst", 3);
+        return new RateLimitedChatClient(delegate,
+            qps > 0 ? new TokenBucket(qps, Math.max(1, burst)) : null,
+            AppConfig.getInt("chat.retry.maxAttempts", 4),
+            AppConfig.getLong("chat.retry.baseDelayMillis", 500),
+            AppConfig.getLong("chat.retry.maxDelayMillis", 8000));
+    }
+
+    @Override
+    public String generate(String prompt) throws IOException, InterruptedException {
+        return stream(prompt, text -> { }, new ChatStream());
+    }
+
+    @Override
+    public String stream(String prompt, Consumer<String> onText, ChatStream stream)
+            throws IOException, InterruptedException {
+        requests.incrementAndGet();
+        Subscriber subscriber = new Subscriber(onText);
+
+        SharedCall call;
+        while (true) {
+            SharedCall existing = inFlight.get(prompt);
+            if (existing != null && existing.subscribe(subscriber)) {
+                coalesced.incrementAndGet();
+                call = existing;
+                break;
+            }
+            // None in flight, or its callers all left and it is being cancelled
+            SharedCall started = new SharedCall();
+            started.subscribe(subscriber);
+            boolean installed = existing == null
+                ? inFlight.putIfAbsent(prompt, started) == null
+                : inFlight.replace(prompt, existing, started);
+            if (installed) {
+                EXECUTOR.execute(() -> run(prompt, started));
+                call = started;
+                break;
+            }
+        }
+
+        // Cancelling this caller's stream only detaches it from the shared call
+        SharedCall joined = call;
+        stream.attach(() -> joined.unsubscribe(subscriber));
+        return call.await(subscriber);
+    }
+
+    /**
+     * Gets a snapshot of the request, throttling and retry counters
+     */
+    public ChatClientStats getStats() {
+        return new ChatClientStats(requests.get(), coalesced.get(), apiCalls.get(), throttled.get(),
+                                   throttleWaitNanos.get(), retries.get(), failures.get());
+    }
+
+    /**
+     * Makes the API call for a shared request, retrying when allowed
+     */
+    private void run(String prompt, SharedCall call) {
+        IOException error = null;
+        try {
+            for (int attempt = 1; !call.cancel.isCancelled(); attempt++) {
+                if (bucket != null) {
+                    long waited = bucket.acquire();
+                    if (waited > 0) {
+                        throttled.incrementAndGet();
+                        throttleWaitNanos.addAndGet(waited);
+                    }
+                }
+                apiCalls.incrementAndGet();
+                try {
+                    delegate.stream(prompt, call::publish, call.cancel);
+                    break;
+                } catch (ChatApiException e) {
+                    // Retrying after text was shown would repeat it
+                    if (!e.isRetryable() || attempt >= maxAttempts || call.hasText()) {
+                        throw e;
+                    }
+                    retries.incrementAndGet();
+                    call.sleep(backoffMillis(attempt, e.getRetryAfterMillis()));
+                }
+            }
+        } catch (IOException e) {
+            failures.incrementAndGet();
+            error = e;
+        } catch (InterruptedException e) {
+            error = new InterruptedIOException("Request interrupted");
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            error = new IOException(e);
+        } finally {
+            // Later callers with the same prompt start a new call
+            inFlight.remove(prompt, call);
+            call.finish(error);
+        }
+    }
+
+    /**
+     * Full jitter: a random delay up to an exponentially growing cap, but
+     * never less than the server asked for
+     */
+    private long backoffMillis(int attempt, long retryAfterMillis) {
+        long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(cap + 1);
+        return Math.max(delay, retryAfterMillis);
+    }
+
+    private static class Subscriber {
+        final Consumer<String> onText;
+        boolean detached = false;
+
+        Subscriber(Consumer<String> onText) {
+            this.onText = onText;
+        }
+    }
+
+    /**
+     * One API call and the callers waiting on it. Text is kept so callers
+     * that join late see the reply from the start.
+     */
+    private static class SharedCall {
+        final ChatStream cancel = new ChatStream();
+        private final StringBuilder text = new StringBuilder();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private boolean done = false;
+        private boolean abandoned = false;
+        private IOException error;
+
+        /**
+         * Adds a caller, first passing it the text received so far
+         * @return false if every earlier caller left and the call is being cancelled
+         */
+        synchronized boolean subscribe(Subscriber subscriber) {
+            if (abandoned) {
+                return false;
+            }
+            if (text.length() > 0) {
+                subscriber.onText.accept(text.toString());
+            }
+            subscribers.add(subscriber);
+            return true;
+        }
+
+        /**
+         * Detaches a caller; the API call is cancelled when nobody is left
+         */
+        void unsubscribe(Subscriber subscriber) {
+            boolean last;
+            synchronized (this) {
+                subscriber.detached = true;
+                subscribers.remove(subscriber);
+                last = subscribers.isEmpty() && !done;
+                abandoned = last;
+                notifyAll();
+            }
+            if (last) {
+                cancel.cancel();
+            }
+        }
+
+        synchronized void publish(String chunk) {
+            text.append(chunk);
+            for (Subscriber subscriber : subscribers) {
+                subscriber.onText.accept(chunk);
+            }
+        }
+
+        synchronized boolean hasText() {
+            return text.length() > 0;
+        }
+
+        synchronized void finish(IOException error) {
+            this.error = error;
+            done = true;
+            notifyAll();
+        }
+
+        /**
+         * Waits between retries, waking early if every caller leaves
+         */
+        synchronized void sleep(long millis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + millis;
+            long remaining = millis;
+            while (remaining > 0 && !subscribers.isEmpty()) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+
+        /**
+         * Waits until the call finishes or the caller cancels
+         * @return the text received so far
+         */
+        synchronized String await(Subscriber subscriber) throws IOException, InterruptedException {
+            try {
+                while (!done && !subscriber.detached) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                unsubscribe(subscriber);
+                throw e;
+            }
+            if (error != null && !subscriber.detached) {
+                throw error;
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.studytracker.chat;
+
+import com.studytracker.util.AppConfig;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bounded cache of chatbot replies, keyed by the normalized question and a
+ * fingerprint of the user context it was answered with. Entries expire after
+ * a time-to-live, the least recently used entry is evicted when the cache is
+ * full, and the contents are saved to a file so they survive restarts.
+ */
+public class ResponseCache {
+    // Fingerprint for questions answered without any user context
+    public static final String NO_CONTEXT = "";
+
+    private static final int FILE_VERSION = 1;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final File file;
+    private final LinkedHashMap<String, Entry> entries;
+    private boolean dirty = false;
+
+    private static class Entry {
+        final String response;
+        final long createdAt;
+
+        Entry(String response, long createdAt) {
+            this.response = response;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * @param maxEntries most replies to keep; 0 disables the cache
+     * @param ttlMillis how long a reply stays valid
+     * @param file where the cache is saved, or null to keep it in memory only
+     */
+    public ResponseCache(int maxEntries, long ttlMillis, File file) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.file = file;
+        // Access order makes iteration order least recently used first
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+        load();
+    }
+
+    /**
+     * Creates the cache from the chat.cache.* settings
+     */
+    public static ResponseCache fromConfig() {
+        return new ResponseCache(
+            AppConfig.getInt("chat.cache.maxEntries", 200),
+            AppConfig.getLong("chat.cache.ttlMinutes", 7 * 24 * 60) * 60_000L,
+            new File(AppConfig.get("chat.cache.file", "data/chat_cache.bin")));
+    }
+
+    /**
+     * Builds the cache key for a question. Case, spacing and trailing
+     * punctuation are ignored, so "Study tips for focus" and
+     * "study tips for focus?" share an entry.
+     * @param contextFingerprint from {@link #fingerprint}, or NO_CONTEXT
+     */
+    public static String key(String question, String contextFingerprint) {
+        String normalized = question.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        int end = normalized.length();
+        while (end > 0 && "?!. ".indexOf(normalized.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return normalized.substring(0, end) + '\n' + contextFingerprint;
+    }
+
+    /**
+     * Gets a short, stable digest of the user context sent with a question
+     */
+    public static String fingerprint(String context) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(context.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets a cached reply, or null if there is none or it has expired
+     */
+    public synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry, System.currentTimeMillis())) {
+            entries.remove(key);
+            dirty = true;
+            return null;
+        }
+        return entry.response;
+    }
+
+    public synchronized void put(String key, String response) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        entries.put(key, new Entry(response, System.currentTimeMillis()));
+        dirty = true;
+    }
+
+    /**
+     * Writes the cache to its file if it changed since the last save. The
+     * file is replaced in one step, so a crash never leaves it half written.
+     */
+    public void save() {
+        if (file == null) {
+            return;
+        }
+
+        // Copy under the lock, write outside it so lookups are not held up
+        String[] keys;
+        Entry[] values;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            keys = entries.keySet().toArray(new String[0]);
+            values = entries.values().toArray(new Entry[0]);
+            dirty = false;
+        }
+
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            File temp = new File(file.getPath() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temp)))) {
+                out.writeInt(FILE_VERSION);
+                out.writeInt(keys.length);
+                // Least recently used first, so loading restores the order
+                for (int i = 0; i < keys.length; i++) {
+                    writeString(out, keys[i]);
+                    out.writeLong(values[i].createdAt);
+                    writeString(out, values[i].response);
+                }
+            }
+            try {
+                // One rename, so a crash leaves either the old cache or the new one
+                Files.move(temp.toPath(), file.toPath(),
+                           StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            synchronized (this) {
+                dirty = true;
+            }
+        }
+    }
+
+    private void load() {
+        if (file == null || !file.exists() || maxEntries <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FILE_VERSION) {
+                return; // Written by a different version; start empty
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                long createdAt = in.readLong();
+                Entry entry = new Entry(readString(in), createdAt);
+                if (!isExpired(entry, now)) {
+                    entries.put(key, entry);
+                }
+            }
+        } catch (EOFException e) {
+            // Truncated file; keep the entries read so far
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAt > ttlMillis;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > 1 << 24) {
+            throw new IOException("Corrupt cache file");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
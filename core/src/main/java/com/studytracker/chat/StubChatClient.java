@@ -0,0 +1,66 @@
+package com.studytracker.chat;
+
+import java.util.function.Consumer;
+
+/**
+ * Offline stand-in for a real model. Replies instantly, or after a fixed
+ * delay to simulate network latency, with a canned answer that quotes the
+ * question. Used for running the app without an API key and for benchmarks.
+ */
+public class StubChatClient implements ChatModelClient {
+    private final long latencyMillis;
+
+    public StubChatClient(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public String generate(String prompt) throws InterruptedException {
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+        return reply(prompt);
+    }
+
+    /**
+     * Streams the canned answer a word at a time, spreading the configured
+     * latency across the words
+     */
+    @Override
+    public String stream(String prompt, Consumer<String> onText, ChatStream stream) throws InterruptedException {
+        String[] words = reply(prompt).split("(?<= )");
+        long delay = latencyMillis / Math.max(1, words.length);
+        StringBuilder sent = new StringBuilder();
+        for (String word : words) {
+            if (stream.isCancelled()) {
+                break;
+            }
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+            sent.append(word);
+            onText.accept(word);
+        }
+        return sent.toString();
+    }
+
+    private static String reply(String prompt) {
+        return "(offline assistant) You asked: \"" + extractQuestion(prompt) + "\". " +
+               "Try short focused sessions, such as 25 minutes of study followed by a 5 minute break, " +
+               "and review your Statistics tab weekly to see where your time goes.";
+    }
+
+    /**
+     * Gets the user's question from a prompt built by the chat panel
+     */
+    private static String extractQuestion(String prompt) {
+        String marker = "User question: ";
+        int start = prompt.indexOf(marker);
+        if (start < 0) {
+            return prompt.trim();
+        }
+        start += marker.length();
+        int end = prompt.indexOf('\n', start);
+        return (end < 0 ? prompt.substring(start) : prompt.substring(start, end)).trim();
+    }
+}
@@ -0,0 +1,236 @@
+package com.studytracker.metrics;
+
+import com.studytracker.util.SharedScheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Named operation timers and recent slow queries for the whole
+ * application, shown in the diagnostics tab and written to a local file
+ * at a fixed interval
+ */
+public class MetricsRegistry {
+    // Slow queries kept for the diagnostics tab and the dump
+    private static final int MAX_SLOW_QUERIES = 50;
+    // Longest the shutdown hook waits for a periodic dump to finish
+    private static final long SHUTDOWN_WAIT_MILLIS = 2000;
+
+    private static MetricsRegistry defaultRegistry;
+
+    private final Map<String, OperationTimer> timers = new ConcurrentHashMap<>();
+    private final ArrayDeque<SlowQuery> slowQueries = new ArrayDeque<>();
+    private final Map<String, Supplier<String>> sections = new LinkedHashMap<>();
+    private ScheduledFuture<?> dumpTask;
+    private Thread dumpHook;
+    // Writes the periodic dump; the shared scheduler only says when
+    private ExecutorService dumpExecutor;
+    private final AtomicBoolean dumpPending = new AtomicBoolean();
+
+    /**
+     * Gets the registry shared by the application
+     */
+    public static synchronized MetricsRegistry getDefault() {
+        if (defaultRegistry == null) {
+            defaultRegistry = new MetricsRegistry();
+        }
+        return defaultRegistry;
+    }
+
+    /**
+     * Gets the timer with this name, creating it on first use
+     */
+    public OperationTimer timer(String name) {
+        OperationTimer timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, OperationTimer::new);
+    }
+
+    /**
+     * Gets a snapshot of every timer, sorted by name
+     */
+    public List<TimerStats> getTimerStats() {
+        List<TimerStats> stats = new ArrayList<>();
+        for (OperationTimer timer : timers.values()) {
+            stats.add(timer.getStats());
+        }
+        stats.sort(Comparator.comparing(TimerStats::getName));
+        return stats;
+    }
+
+    public void recordSlowQuery(SlowQuery query) {
+        synchronized (slowQueries) {
+            if (slowQueries.size() == MAX_SLOW_QUERIES) {
+                slowQueries.removeFirst();
+            }
+            slowQueries.addLast(query);
+        }
+    }
+
+    /**
+     * Gets the most recent slow queries, newest first
+     */
+    public List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> queries;
+        synchronized (slowQueries) {
+            queries = new ArrayList<>(slowQueries);
+        }
+        Collections.reverse(queries);
+        return queries;
+    }
+
+    /**
+     * Adds a section of text to the report, such as connection pool
+     * statistics. A section with the same title is replaced.
+     */
+    public synchronized void addReportSection(String title, Supplier<String> content) {
+        sections.put(title, content);
+    }
+
+    /**
+     * Formats every timer, report section and slow query as plain text
+     */
+    public String formatReport() {
+        StringWriter text = new StringWriter();
+        PrintWriter out = new PrintWriter(text);
+        out.printf("Study Habit Tracker metrics at %s%n%n", Instant.now());
+        out.printf("%-28s %8s %10s %9s %9s %9s %9s %9s %8s %6s%n",
+                   "operation", "count", "total ms", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms",
+                   "rows", "errors");
+        for (TimerStats stats : getTimerStats()) {
+            out.printf("%-28s %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d %6d%n",
+                       stats.getName(), stats.getCount(), stats.getTotalMillis(), stats.getMeanMillis(),
+                       stats.getP50Millis(), stats.getP90Millis(), stats.getP99Millis(), stats.getMaxMillis(),
+                       stats.getRows(), stats.getErrors());
+        }
+        for (TimerStats stats : getTimerStats()) {
+            if (stats.getLastError() != null) {
+                out.printf("Last error in %s: %s%n", stats.getName(), stats.getLastError());
+            }
+        }
+
+        Map<String, Supplier<String>> sectionsCopy;
+        synchronized (this) {
+            sectionsCopy = new LinkedHashMap<>(sections);
+        }
+        for (Map.Entry<String, Supplier<String>> section : sectionsCopy.entrySet()) {
+            out.printf("%n%s%n%s%n", section.getKey(), section.getValue().get());
+        }
+
+        List<SlowQuery> queries = getSlowQueries();
+        out.printf("%nSlow queries (%d most recent)%n", queries.size());
+        for (SlowQuery query : queries) {
+            out.printf("%s %s%n", Instant.ofEpochMilli(query.getTimestamp()), query);
+        }
+        out.flush();
+        return text.toString();
+    }
+
+    /**
+     * Writes the report to a file, replacing it in one step so readers never
+     * see a partial report. Each call writes its own temporary file, so
+     * concurrent dumps cannot corrupt each other.
+     * @return true if the file was written
+     */
+    public boolean dumpTo(File file) {
+        Path temp = null;
+        try {
+            File dir = file.getAbsoluteFile().getParentFile();
+            dir.mkdirs();
+            temp = Files.createTempFile(dir.toPath(), file.getName(), ".tmp");
+            Files.write(temp, formatReport().getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException deleteError) {
+                    // Left behind; the next dump does not depend on it
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Writes the report to a file at a fixed interval and once more when the
+     * application exits. Replaces any dump started before. The report sections
+     * and the file write run on their own thread, since they can be slow.
+     */
+    public synchronized void startFileDump(File file, long intervalMillis) {
+        stopFileDump();
+        if (dumpExecutor == null) {
+            dumpExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "metrics-dump");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        ExecutorService executor = dumpExecutor;
+        dumpTask = SharedScheduler.get().scheduleWithFixedDelay(() -> {
+            // Skip this interval if the last dump is still being written
+            if (dumpPending.compareAndSet(false, true)) {
+                executor.execute(() -> {
+                    try {
+                        dumpTo(file);
+                    } finally {
+                        dumpPending.set(false);
+                    }
+                });
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        dumpHook = new Thread(() -> {
+            // Let a periodic dump in progress finish, so the last report written is this one
+            executor.shutdown();
+            try {
+                executor.awaitTermination(SHUTDOWN_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            dumpTo(file);
+        }, "metrics-dump-shutdown");
+        Runtime.getRuntime().addShutdownHook(dumpHook);
+    }
+
+    public synchronized void stopFileDump() {
+        if (dumpTask != null) {
+            dumpTask.cancel(false);
+            dumpTask = null;
+        }
+        if (dumpHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(dumpHook);
+            } catch (IllegalStateException e) {
+                // Already shutting down; the hook writes the last report
+            }
+            dumpHook = null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.studytracker.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency, row and error counts for one named operation, such as a
+ * DatabaseManager method. Safe to record from any thread.
+ */
+public class OperationTimer {
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private volatile String lastError;
+
+    OperationTimer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one call
+     * @param rows rows read or written by the call
+     * @param error the failure, or null if the call succeeded
+     */
+    public void record(long nanos, long rows, Throwable error) {
+        histogram.record(nanos);
+        if (rows > 0) {
+            this.rows.addAndGet(rows);
+        }
+        if (error != null) {
+            errors.incrementAndGet();
+            lastError = error.getClass().getSimpleName() + ": " + error.getMessage();
+        }
+    }
+
+    public TimerStats getStats() {
+        long[] percentiles = histogram.getValuesAtPercentiles(50, 90, 99, 99.9);
+        return new TimerStats(name, histogram.getCount(), histogram.getTotalNanos(), histogram.getMaxNanos(),
+                              percentiles[0], percentiles[1], percentiles[2], percentiles[3],
+                              rows.get(), errors.get(), lastError);
+    }
+}
@@ -0,0 +1,49 @@
+package com.studytracker.metrics;
+
+/**
+ * A statement that took longer than the slow-query threshold
+ */
+public class SlowQuery {
+    private final long timestamp;
+    private final String operation;
+    private final String sql;
+    private final String parameters;
+    private final long elapsedNanos;
+
+    /**
+     * @param timestamp when the statement finished, in epoch milliseconds
+     * @param parameters the bind parameters as text, already masked if secret
+     */
+    public SlowQuery(long timestamp, String operation, String sql, String parameters, long elapsedNanos) {
+        this.timestamp = timestamp;
+        this.operation = operation;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1fms in %s: %s %s", getElapsedMillis(), operation, sql, parameters);
+    }
+}
@@ -0,0 +1,97 @@
+package com.studytracker.metrics;
+
+/**
+ * Point-in-time snapshot of an operation timer
+ */
+public class TimerStats {
+    private final String name;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long rows;
+    private final long errors;
+    private final String lastError;
+
+    public TimerStats(String name, long count, long totalNanos, long maxNanos,
+                      long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos,
+                      long rows, long errors, String lastError) {
+        this.name = name;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.rows = rows;
+        this.errors = errors;
+        this.lastError = lastError;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0.0 : totalNanos / 1_000_000.0 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos / 1_000_000.0;
+    }
+
+    public double getP50Millis() {
+        return p50Nanos / 1_000_000.0;
+    }
+
+    public double getP90Millis() {
+        return p90Nanos / 1_000_000.0;
+    }
+
+    public double getP99Millis() {
+        return p99Nanos / 1_000_000.0;
+    }
+
+    public double getP999Millis() {
+        return p999Nanos / 1_000_000.0;
+    }
+
+    /**
+     * Gets the rows read from result sets plus the rows changed by updates
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the type and message of the most recent failure, or null if none
+     */
+    public String getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s count=%d total=%.1fms mean=%.2fms p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms " +
+            "max=%.2fms rows=%d errors=%d",
+            name, count, getTotalMillis(), getMeanMillis(), getP50Millis(), getP90Millis(),
+            getP99Millis(), getP999Millis(), getMaxMillis(), rows, errors);
+    }
+}
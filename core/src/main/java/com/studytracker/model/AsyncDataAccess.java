@@ -0,0 +1,136 @@
+package com.studytracker.model;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs DatabaseManager calls on a dedicated executor so that callers on the
+ * Swing Event Dispatch Thread never block on JDBC. Every method returns
+ * immediately with a future completed on a data-access thread.
+ */
+public class AsyncDataAccess {
+    private final DatabaseManager dbManager;
+    private final ExecutorService executor;
+
+    public AsyncDataAccess(DatabaseManager dbManager, int threads) {
+        this.dbManager = dbManager;
+        this.executor = createExecutor(threads);
+    }
+
+    /**
+     * Uses virtual threads when the JVM supports them (Java 21+), otherwise a
+     * fixed pool of daemon threads. The connection pool bounds concurrency either way.
+     */
+    private static ExecutorService createExecutor(int threads) {
+        try {
+            return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "data-access-" + counter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * Runs an arbitrary data-access task on the executor
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public CompletableFuture<List<StudyLog>> getStudyLogs() {
+        return supply(dbManager::getStudyLogs);
+    }
+
+    public CompletableFuture<List<StudyLog>> getStudyLogPage(StudyLog after, int limit) {
+        return supply(() -> dbManager.getStudyLogPage(after, limit));
+    }
+
+    public CompletableFuture<List<StudyLog>> getStudyLogPageAt(int offset, int limit) {
+        return supply(() -> dbManager.getStudyLogPageAt(offset, limit));
+    }
+
+    public CompletableFuture<String> getStudyLogNotes(int logId) {
+        return supply(() -> dbManager.getStudyLogNotes(logId));
+    }
+
+    public CompletableFuture<Boolean> addStudyLog(StudyLog log) {
+        return supply(() -> dbManager.addStudyLog(log));
+    }
+
+    public CompletableFuture<Integer> addStudyLogs(Collection<StudyLog> logs) {
+        return supply(() -> dbManager.addStudyLogs(logs));
+    }
+
+    public CompletableFuture<Boolean> deleteStudyLog(String subject, Date date) {
+        return supply(() -> dbManager.deleteStudyLog(subject, date));
+    }
+
+    public CompletableFuture<StudySummary> getSubjectSummary(Date startDate, Date endDate) {
+        return supply(() -> dbManager.getSubjectSummary(startDate, endDate));
+    }
+
+    public CompletableFuture<Boolean> addStudyGoal(StudyGoal goal) {
+        return supply(() -> dbManager.addStudyGoal(goal));
+    }
+
+    public CompletableFuture<List<StudyGoal>> getStudyGoals() {
+        return supply(dbManager::getStudyGoals);
+    }
+
+    public CompletableFuture<List<StudyGoal>> getAllStudyGoals() {
+        return supply(dbManager::getAllStudyGoals);
+    }
+
+    public CompletableFuture<Boolean> toggleGoalActiveStatus(int goalId) {
+        return supply(() -> dbManager.toggleGoalActiveStatus(goalId));
+    }
+
+    public CompletableFuture<Double> getStudyHoursForGoal(StudyGoal goal) {
+        return supply(() -> dbManager.getStudyHoursForGoal(goal));
+    }
+
+    public CompletableFuture<Map<Integer, Double>> getGoalProgress() {
+        return supply(dbManager::getGoalProgress);
+    }
+
+    public CompletableFuture<Void> logStudySession(int userId, LocalDate date) {
+        return CompletableFuture.runAsync(() -> dbManager.logStudySession(userId, date), executor);
+    }
+
+    public CompletableFuture<StudyDaySet> getStudyDays(int userId, LocalDate from, LocalDate to) {
+        return supply(() -> dbManager.getStudyDays(userId, from, to));
+    }
+
+    public CompletableFuture<DailyStudyHours> getDailyHours(int userId, LocalDate from, LocalDate to) {
+        return supply(() -> dbManager.getDailyHours(userId, from, to));
+    }
+
+    public CompletableFuture<Integer> getStudyLogCount(int userId) {
+        return supply(() -> dbManager.getStudyLogCount(userId));
+    }
+
+    public CompletableFuture<Double> getTotalStudyHours(int userId) {
+        return supply(() -> dbManager.getTotalStudyHours(userId));
+    }
+
+    /**
+     * Stops accepting work; queued tasks still run to completion
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,79 @@
+package com.studytracker.model;
+
+import java.time.LocalDate;
+
+/**
+ * Hours studied on each day of a date range, in an array indexed by the
+ * day's offset from the start of the range
+ */
+public class DailyStudyHours {
+    private final long firstDay;
+    private final double[] hours;
+
+    /**
+     * Creates a range from from to to, inclusive, with no hours yet
+     */
+    public DailyStudyHours(LocalDate from, LocalDate to) {
+        this.firstDay = from.toEpochDay();
+        this.hours = new double[(int) Math.max(0, to.toEpochDay() - firstDay + 1)];
+    }
+
+    /**
+     * Adds hours to a day while the range is being filled; days outside it are ignored
+     */
+    void add(LocalDate day, double dayHours) {
+        long index = day.toEpochDay() - firstDay;
+        if (index >= 0 && index < hours.length) {
+            hours[(int) index] += dayHours;
+        }
+    }
+
+    /**
+     * Gets the hours for a day, or 0 if the day is outside the range
+     */
+    public double getHours(LocalDate day) {
+        long index = day.toEpochDay() - firstDay;
+        return index >= 0 && index < hours.length ? hours[(int) index] : 0;
+    }
+
+    public LocalDate getFrom() {
+        return LocalDate.ofEpochDay(firstDay);
+    }
+
+    public LocalDate getTo() {
+        return LocalDate.ofEpochDay(firstDay + hours.length - 1);
+    }
+
+    public int getDayCount() {
+        return hours.length;
+    }
+
+    public double getMaxHours() {
+        double max = 0;
+        for (double h : hours) {
+            max = Math.max(max, h);
+        }
+        return max;
+    }
+
+    public double getTotalHours() {
+        double total = 0;
+        for (double h : hours) {
+            total += h;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of days with any study time
+     */
+    public int getActiveDays() {
+        int days = 0;
+        for (double h : hours) {
+            if (h > 0) {
+                days++;
+            }
+        }
+        return days;
+    }
+}
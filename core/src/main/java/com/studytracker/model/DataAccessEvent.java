@@ -0,0 +1,37 @@
+package com.studytracker.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one DatabaseManager operation, from borrowing
+ * its connection to closing it
+ */
+@Name("com.studytracker.DataAccess")
+@Label("Data Access")
+@Category({"Study Tracker", "Database"})
+@Description("A DatabaseManager operation, from borrowing a connection to returning it")
+class DataAccessEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("SQL Id")
+    @Description("Hash of the first statement's SQL, to group calls running the same statement")
+    String sqlId;
+
+    @Label("SQL")
+    @Description("The first statement run by the operation")
+    String sql;
+
+    @Label("Statements")
+    int statements;
+
+    @Label("Rows")
+    @Description("Rows read from result sets plus rows changed by updates")
+    long rows;
+
+    @Label("Failed")
+    boolean failed;
+}
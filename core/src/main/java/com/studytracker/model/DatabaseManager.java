@@ -0,0 +1,1171 @@
+package com.studytracker.model;
+
+import com.studytracker.metrics.MetricsRegistry;
+import com.studytracker.util.AppConfig;
+
+import java.io.File;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Handles database operations for the Study Habit Tracker application
+ * with role-based access control
+ */
+public class DatabaseManager {
+    // Characters of notes returned with each page of study logs
+    public static final int NOTES_PREVIEW_LENGTH = 100;
+    
+    // Rows sent per JDBC batch in bulk inserts
+    private static final int BATCH_SIZE = 500;
+    
+    private static final String ROLLUP_UPSERT_SQL =
+        "INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions) " +
+        "VALUES (?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE total_hours = total_hours + VALUES(total_hours), " +
+        "sessions = sessions + VALUES(sessions)";
+    
+    // Operations whose bind parameters are kept out of the slow-query log
+    private static final Set<String> SECRET_OPERATIONS = Set.of("login", "registerUser");
+    
+    private ConnectionPool pool;
+    private final StorageBackend backend;
+    
+    // Times each data-access method; null when metrics are turned off
+    private final QueryInstrumentation instrumentation;
+    
+    // Current logged-in user, read from data-access threads
+    private volatile User currentUser;
+    
+    // Background executor facade, created on first use
+    private AsyncDataAccess async;
+    
+    // Chatbot context kept current from write events, created on first use
+    private UserContextService userContext;
+    private StudyLogWriter writeBehind;
+    private Thread writeBehindHook;
+    
+    // Notified after study log and goal writes commit
+    private final List<StudyDataListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a manager for the backend selected in the configuration
+     */
+    public DatabaseManager() {
+        this(StorageBackend.fromConfig());
+    }
+    
+    public DatabaseManager(StorageBackend backend) {
+        this.backend = backend;
+        this.instrumentation = Boolean.parseBoolean(AppConfig.get("db.metrics.enabled", "true"))
+            ? new QueryInstrumentation(MetricsRegistry.getDefault(),
+                                       AppConfig.getLong("db.slowQueryMillis", 250), SECRET_OPERATIONS)
+            : null;
+        try {
+            // Load the JDBC driver for the selected engine
+            backend.loadDriver();
+            
+            // Create the connection pool shared by all panels and background tasks
+            pool = new ConnectionPool(
+                backend.getUrl(), backend.getUser(), backend.getPassword(),
+                AppConfig.getInt("db.pool.minSize", 2),
+                AppConfig.getInt("db.pool.maxSize", 8),
+                AppConfig.getLong("db.pool.maxWaitMillis", 10000),
+                AppConfig.getLong("db.pool.idleTimeoutMillis", 300000),
+                AppConfig.getLong("db.pool.validationIntervalMillis", 30000),
+                AppConfig.getInt("db.pool.statementCacheSize", 64)
+            );
+            
+            // Create the schema if this is a new database
+            try (Connection conn = getConnection("initialize")) {
+                backend.initialize(conn);
+            }
+        } catch (ClassNotFoundException | SQLException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Borrow a connection from the pool. Callers must close it to return it.
+     * Everything until it is closed is timed as the named operation.
+     * @param operation the calling method, used as the metrics name
+     * @return A connection object
+     * @throws SQLException if connection fails
+     */
+    private Connection getConnection(String operation) throws SQLException {
+        if (instrumentation == null) {
+            return borrow();
+        }
+        QueryInstrumentation.Operation timed = instrumentation.start(operation);
+        try {
+            return timed.wrap(borrow());
+        } catch (SQLException e) {
+            timed.failed(e);
+            throw e;
+        }
+    }
+    
+    private Connection borrow() throws SQLException {
+        if (pool == null) {
+            throw new SQLException("Database driver is not available");
+        }
+        return pool.getConnection();
+    }
+    
+    /**
+     * Prepares backend-specific SQL, as a stored procedure call when it starts with "{call"
+     */
+    private PreparedStatement prepare(Connection conn, String sql) throws SQLException {
+        return sql.startsWith("{call") ? conn.prepareCall(sql) : conn.prepareStatement(sql);
+    }
+    
+    /**
+     * Gets the storage backend this manager reads and writes
+     */
+    public StorageBackend getBackend() {
+        return backend;
+    }
+    
+    /**
+     * Gets the asynchronous facade used to keep JDBC work off the Swing EDT
+     */
+    public synchronized AsyncDataAccess async() {
+        if (async == null) {
+            async = new AsyncDataAccess(this, AppConfig.getInt("db.pool.maxSize", 8));
+        }
+        return async;
+    }
+    
+    /**
+     * Gets the write-behind queue for logs recorded in the background, such
+     * as finished Pomodoro sessions
+     */
+    public synchronized StudyLogWriter writeBehind() {
+        if (writeBehind == null) {
+            writeBehind = new StudyLogWriter(this,
+                new File(AppConfig.get("db.writeBehind.journal", "data/pending_study_logs.journal")),
+                new File(AppConfig.get("db.writeBehind.rejected", "data/rejected_study_logs.journal")),
+                AppConfig.getLong("db.writeBehind.lingerMillis", 1000));
+            // Journal logs still queued if the application exits
+            writeBehindHook = new Thread(writeBehind::close, "study-log-writer-shutdown");
+            Runtime.getRuntime().addShutdownHook(writeBehindHook);
+        }
+        return writeBehind;
+    }
+    
+    /**
+     * Gets the service that keeps the current user's study context in memory
+     */
+    public synchronized UserContextService userContext() {
+        if (userContext == null) {
+            userContext = new UserContextService(this);
+            addStudyDataListener(userContext);
+        }
+        return userContext;
+    }
+    
+    public void addStudyDataListener(StudyDataListener listener) {
+        listeners.add(listener);
+    }
+    
+    public void removeStudyDataListener(StudyDataListener listener) {
+        listeners.remove(listener);
+    }
+    
+    private void fireStudyTimeChanged(int userId, String subject, Date day, double hoursDelta, int sessionsDelta) {
+        for (StudyDataListener listener : listeners) {
+            listener.studyTimeChanged(userId, subject, day, hoursDelta, sessionsDelta);
+        }
+    }
+    
+    private void fireGoalsChanged(int userId) {
+        for (StudyDataListener listener : listeners) {
+            listener.goalsChanged(userId);
+        }
+    }
+    
+    /**
+     * Gets a snapshot of the connection pool metrics
+     */
+    public PoolStats getPoolStats() {
+        return pool != null ? pool.getStats() : null;
+    }
+    
+    /**
+     * Validates user credentials and sets the current user if valid
+     */
+    public boolean login(String username, String password) {
+        String sql = "SELECT u.id, u.username, u.password, u.email, u.full_name, " +
+                     "u.role_id, r.name as role_name, u.created_at " +
+                     "FROM users u " +
+                     "JOIN roles r ON u.role_id = r.id " +
+                     "WHERE u.username = ? AND u.password = ?";
+                     
+        try (Connection conn = getConnection("login");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, username);
+            pstmt.setString(2, password); // In a real app, use password hashing
+            
+            ResultSet rs = pstmt.executeQuery();
+            
+            if (rs.next()) {
+                // Create user object from database result
+                currentUser = new User(
+                    rs.getInt("id"),
+                    rs.getString("username"),
+                    rs.getString("password"),
+                    rs.getString("email"),
+                    rs.getString("full_name"),
+                    rs.getInt("role_id"),
+                    rs.getString("role_name"),
+                    rs.getTimestamp("created_at")
+                );
+                return true;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Registers a new user in the system
+     */
+    public boolean registerUser(User user) {
+        try (Connection conn = getConnection("registerUser");
+             PreparedStatement cstmt = prepare(conn, backend.getCreateUserSql())) {
+            cstmt.setString(1, user.getUsername());
+            cstmt.setString(2, user.getPassword()); // In a real app, hash the password
+            cstmt.setString(3, user.getEmail());
+            cstmt.setString(4, user.getFullName());
+            
+            cstmt.execute();
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+
+    public void logStudySession(int userId, LocalDate date) {
+        logStudySession(userId, date, "General", 1.0, "Auto-logged via 'Started Studying'");
+    }
+    
+    /**
+     * Logs a study session for a user on a given day
+     */
+    public void logStudySession(int userId, LocalDate date, String subject, double hours, String notes) {
+        String query = "INSERT INTO study_logs (user_id, subject, hours, date, notes) VALUES (?, ?, ?, ?, ?)";
+        java.sql.Date day = java.sql.Date.valueOf(date);
+        try (Connection conn = getConnection("logStudySession")) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(query)) {
+                stmt.setInt(1, userId);
+                stmt.setString(2, subject);
+                stmt.setDouble(3, hours);
+                stmt.setDate(4, day);
+                stmt.setString(5, notes);
+                stmt.executeUpdate();
+                
+                applyRollupDelta(conn, userId, subject, day, hours, 1);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return;
+        }
+        fireStudyTimeChanged(userId, subject, day, hours, 1);
+    }
+    
+    /**
+     * Gets the days between from and to, inclusive, on which a user logged study time
+     * @return the days, or null if they could not be read
+     */
+    public StudyDaySet getStudyDays(int userId, LocalDate from, LocalDate to) {
+        StudyDaySet days = new StudyDaySet(from, to);
+        // Range scan on idx_user_date; DISTINCT returns each day once
+        String query = "SELECT DISTINCT date FROM study_logs WHERE user_id = ? AND date BETWEEN ? AND ?";
+        try (Connection conn = getConnection("getStudyDays");
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, userId);
+            stmt.setDate(2, java.sql.Date.valueOf(from));
+            stmt.setDate(3, java.sql.Date.valueOf(to));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    days.add(rs.getDate(1).toLocalDate());
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+        return days;
+    }
+    
+    /**
+     * Gets a user's total study hours per day between from and to, inclusive
+     * @return the hours, or null if they could not be read
+     */
+    public DailyStudyHours getDailyHours(int userId, LocalDate from, LocalDate to) {
+        DailyStudyHours hours = new DailyStudyHours(from, to);
+        // One row per day from the rollup's (user_id, day, subject) key range
+        String query = "SELECT day, SUM(total_hours) FROM study_daily_rollup " +
+                       "WHERE user_id = ? AND day BETWEEN ? AND ? GROUP BY day";
+        try (Connection conn = getConnection("getDailyHours");
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, userId);
+            stmt.setDate(2, java.sql.Date.valueOf(from));
+            stmt.setDate(3, java.sql.Date.valueOf(to));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    hours.add(rs.getDate(1).toLocalDate(), rs.getDouble(2));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+        return hours;
+    }
+    
+
+    
+    /**
+     * Adds a new study log entry for the current user
+     */
+    public boolean addStudyLog(StudyLog log) {
+        // Ensure user can only add logs for themselves
+        if (currentUser == null || log.getUserId() != currentUser.getId()) {
+            return false;
+        }
+        
+        String sql = "INSERT INTO study_logs (user_id, subject, hours, date, notes) VALUES (?, ?, ?, ?, ?)";
+        
+        // Insert and rollup update in one transaction, the same on every backend
+        try (Connection conn = getConnection("addStudyLog")) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, log.getUserId());
+                pstmt.setString(2, log.getSubject());
+                pstmt.setDouble(3, log.getHours());
+                pstmt.setDate(4, log.getDate());
+                pstmt.setString(5, log.getNotes());
+                pstmt.executeUpdate();
+                
+                applyRollupDelta(conn, log.getUserId(), log.getSubject(), log.getDate(), log.getHours(), 1);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+        fireStudyTimeChanged(log.getUserId(), log.getSubject(), log.getDate(), log.getHours(), 1);
+        return true;
+    }
+    
+    /**
+     * Adds many study logs for the current user in one transaction. Rows are
+     * sent to the database in JDBC batches, and the daily rollup gets one
+     * update per subject and day instead of one per log.
+     * 
+     * @param logs the logs to add; all must belong to the current user
+     * @return the number of logs added, or -1 if nothing was added
+     */
+    public int addStudyLogs(Collection<StudyLog> logs) {
+        if (currentUser == null) {
+            return -1;
+        }
+        int userId = currentUser.getId();
+        for (StudyLog log : logs) {
+            // Ensure user can only add logs for themselves
+            if (log.getUserId() != userId) {
+                return -1;
+            }
+        }
+        try {
+            writeStudyLogs(logs);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return -1;
+        }
+        return logs.size();
+    }
+    
+    /**
+     * Inserts the current user's logs in one transaction, like addStudyLogs,
+     * but throws the failure so callers can tell an unreachable database from
+     * logs the database will never accept
+     * 
+     * @throws SQLException if nothing was written
+     */
+    void writeStudyLogs(Collection<StudyLog> logs) throws SQLException {
+        User user = currentUser;
+        if (user == null) {
+            throw new SQLException("No user is logged in");
+        }
+        int userId = user.getId();
+        for (StudyLog log : logs) {
+            if (log.getUserId() != userId) {
+                throw new SQLException("Log belongs to another user");
+            }
+        }
+        if (logs.isEmpty()) {
+            return;
+        }
+        
+        String sql = "INSERT INTO study_logs (user_id, subject, hours, date, notes) VALUES (?, ?, ?, ?, ?)";
+        
+        // Hours and sessions per (subject, day), applied to the rollup after the inserts
+        Map<List<Object>, double[]> rollup = new LinkedHashMap<>();
+        
+        try (Connection conn = getConnection("writeStudyLogs")) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int pending = 0;
+                for (StudyLog log : logs) {
+                    pstmt.setInt(1, userId);
+                    pstmt.setString(2, log.getSubject());
+                    pstmt.setDouble(3, log.getHours());
+                    pstmt.setDate(4, log.getDate());
+                    pstmt.setString(5, log.getNotes());
+                    pstmt.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        pstmt.executeBatch();
+                        pending = 0;
+                    }
+                    
+                    double[] totals = rollup.computeIfAbsent(
+                        Arrays.<Object>asList(log.getSubject(), log.getDate()), k -> new double[2]);
+                    totals[0] += log.getHours();
+                    totals[1]++;
+                }
+                if (pending > 0) {
+                    pstmt.executeBatch();
+                }
+                
+                applyRollupDeltas(conn, userId, rollup);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+        for (Map.Entry<List<Object>, double[]> entry : rollup.entrySet()) {
+            fireStudyTimeChanged(userId, (String) entry.getKey().get(0), (Date) entry.getKey().get(1),
+                                 entry.getValue()[0], (int) entry.getValue()[1]);
+        }
+    }
+    
+    /**
+     * Retrieves study logs for the current user
+     */
+    public List<StudyLog> getStudyLogs() {
+        if (currentUser == null) {
+            return new ArrayList<>();
+        }
+        
+        List<StudyLog> logs = new ArrayList<>();
+        
+        try (Connection conn = getConnection("getStudyLogs");
+             PreparedStatement cstmt = prepare(conn, backend.getStudyLogsSql())) {
+            cstmt.setInt(1, currentUser.getId());
+            
+            ResultSet rs = cstmt.executeQuery();
+            
+            while (rs.next()) {
+                StudyLog log = new StudyLog(
+                    rs.getInt("id"),
+                    currentUser.getId(),
+                    rs.getString("subject"),
+                    rs.getDouble("hours"),
+                    rs.getDate("date"),
+                    rs.getString("notes"),
+                    null // We don't return created_at in the stored procedure
+                );
+                logs.add(log);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return logs;
+    }
+    
+    /**
+     * Gets one page of the current user's study logs, newest first, using the
+     * (date, id) of the previous page's last row as the key to continue from.
+     * Notes are cut to {@link #NOTES_PREVIEW_LENGTH} characters; use
+     * {@link #getStudyLogNotes(int)} for the full text.
+     * 
+     * @param after the last row of the previous page, or null for the first page
+     * @param limit the maximum number of rows to return
+     */
+    public List<StudyLog> getStudyLogPage(StudyLog after, int limit) {
+        List<StudyLog> logs = new ArrayList<>();
+        if (currentUser == null) {
+            return logs;
+        }
+        
+        // Seeks on (user_id, date, id); InnoDB appends the id to idx_user_date.
+        // The redundant date <= ? gives the optimizer an index range to start from.
+        String sql = "SELECT id, subject, hours, date, SUBSTRING(notes, 1, " + NOTES_PREVIEW_LENGTH + ") AS notes " +
+                     "FROM study_logs WHERE user_id = ? " +
+                     (after != null ? "AND date <= ? AND (date < ? OR (date = ? AND id < ?)) " : "") +
+                     "ORDER BY date DESC, id DESC LIMIT ?";
+        
+        try (Connection conn = getConnection("getStudyLogPage");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setInt(index++, currentUser.getId());
+            if (after != null) {
+                pstmt.setDate(index++, after.getDate());
+                pstmt.setDate(index++, after.getDate());
+                pstmt.setDate(index++, after.getDate());
+                pstmt.setInt(index++, after.getId());
+            }
+            pstmt.setInt(index, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                logs.add(new StudyLog(
+                    rs.getInt("id"),
+                    currentUser.getId(),
+                    rs.getString("subject"),
+                    rs.getDouble("hours"),
+                    rs.getDate("date"),
+                    rs.getString("notes"),
+                    null
+                ));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return logs;
+    }
+    
+    /**
+     * Gets the page of study logs starting at a row position, for jumps where
+     * the previous page is not loaded. Only the (date, id) key of the row
+     * before the page is found by offset; the page itself is read by key.
+     * 
+     * @param offset the position of the first row, 0 for the newest log
+     * @param limit the maximum number of rows to return
+     */
+    public List<StudyLog> getStudyLogPageAt(int offset, int limit) {
+        if (offset <= 0 || currentUser == null) {
+            return getStudyLogPage(null, limit);
+        }
+        
+        String sql = "SELECT id, date FROM study_logs WHERE user_id = ? " +
+                     "ORDER BY date DESC, id DESC LIMIT 1 OFFSET ?";
+        StudyLog before = null;
+        
+        try (Connection conn = getConnection("getStudyLogPageAt");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, currentUser.getId());
+            pstmt.setInt(2, offset - 1);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                before = new StudyLog(rs.getInt("id"), currentUser.getId(), null, 0, rs.getDate("date"), null, null);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return before != null ? getStudyLogPage(before, limit) : new ArrayList<>();
+    }
+    
+    /**
+     * Gets the full notes of one of the current user's study logs
+     */
+    public String getStudyLogNotes(int logId) {
+        if (currentUser == null) {
+            return null;
+        }
+        
+        String sql = "SELECT notes FROM study_logs WHERE id = ? AND user_id = ?";
+        
+        try (Connection conn = getConnection("getStudyLogNotes");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, logId);
+            pstmt.setInt(2, currentUser.getId());
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getString("notes");
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Gets study summary statistics for the current user as a list of maps
+     * 
+     * @deprecated use {@link #getSubjectSummary(Date, Date)}, which avoids a map per row
+     */
+    @Deprecated
+    public List<Map<String, Object>> getStudySummary(Date startDate, Date endDate) {
+        StudySummary summary = getSubjectSummary(startDate, endDate);
+        List<Map<String, Object>> summaries = new ArrayList<>(summary.size());
+        
+        for (int i = 0; i < summary.size(); i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("subject", summary.getSubject(i));
+            row.put("totalHours", summary.getTotalHours(i));
+            row.put("sessions", summary.getSessions(i));
+            row.put("avgHoursPerSession", summary.getAvgHoursPerSession(i));
+            row.put("firstDate", Date.valueOf(LocalDate.ofEpochDay(summary.getFirstEpochDay(i))));
+            row.put("lastDate", Date.valueOf(LocalDate.ofEpochDay(summary.getLastEpochDay(i))));
+            summaries.add(row);
+        }
+        
+        return summaries;
+    }
+    
+    /**
+     * Gets per-subject study totals for the current user in a date range
+     * 
+     * @param startDate first day to include
+     * @param endDate last day to include
+     * @return the totals ordered by hours, largest first
+     */
+    public StudySummary getSubjectSummary(Date startDate, Date endDate) {
+        if (currentUser == null) {
+            return StudySummary.empty();
+        }
+        
+        StudySummary.Builder builder = new StudySummary.Builder(16);
+        
+        try (Connection conn = getConnection("getSubjectSummary");
+             PreparedStatement cstmt = prepare(conn, backend.getSubjectSummarySql())) {
+            cstmt.setInt(1, currentUser.getId());
+            cstmt.setDate(2, startDate);
+            cstmt.setDate(3, endDate);
+            
+            ResultSet rs = cstmt.executeQuery();
+            
+            // Columns: subject, total_hours, sessions, avg_hours_per_session, first_date, last_date
+            while (rs.next()) {
+                builder.add(
+                    rs.getString(1),
+                    rs.getDouble(2),
+                    rs.getInt(3),
+                    rs.getDouble(4),
+                    rs.getDate(5).toLocalDate().toEpochDay(),
+                    rs.getDate(6).toLocalDate().toEpochDay()
+                );
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return builder.build();
+    }
+    
+    /**
+     * Adds a new study goal for the current user
+     */
+    public boolean addStudyGoal(StudyGoal goal) {
+        // Ensure user can only add goals for themselves
+        if (currentUser == null || goal.getUserId() != currentUser.getId()) {
+            return false;
+        }
+        
+        String sql = "INSERT INTO study_goals (user_id, subject, target_hours, period_type) VALUES (?, ?, ?, ?)";
+        
+        try (Connection conn = getConnection("addStudyGoal");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, goal.getUserId());
+            pstmt.setString(2, goal.getSubject());
+            pstmt.setDouble(3, goal.getTargetHours());
+            pstmt.setString(4, goal.getPeriodType().toString());
+            
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+        fireGoalsChanged(goal.getUserId());
+        return true;
+    }
+    
+    /**
+     * Gets all active study goals for the current user
+     */
+    public List<StudyGoal> getStudyGoals() {
+        if (currentUser == null) {
+            return new ArrayList<>();
+        }
+        
+        List<StudyGoal> goals = new ArrayList<>();
+        String sql = "SELECT * FROM study_goals WHERE user_id = ? AND is_active = TRUE";
+        
+        try (Connection conn = getConnection("getStudyGoals");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, currentUser.getId());
+            ResultSet rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                StudyGoal.PeriodType periodType = StudyGoal.PeriodType.valueOf(rs.getString("period_type"));
+                
+                StudyGoal goal = new StudyGoal(
+                    rs.getInt("id"),
+                    rs.getInt("user_id"),
+                    rs.getString("subject"),
+                    rs.getDouble("target_hours"),
+                    periodType,
+                    rs.getBoolean("is_active"),
+                    rs.getTimestamp("created_at")
+                );
+                goals.add(goal);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return goals;
+    }
+    
+    /**
+     * Toggles the active status of a study goal
+     * 
+     * @param goalId the ID of the goal to toggle
+     * @return true if the operation was successful, false otherwise
+     */
+    public boolean toggleGoalActiveStatus(int goalId) {
+        // Ensure user can only modify their own goals
+        if (currentUser == null) {
+            return false;
+        }
+        
+        String sql = "UPDATE study_goals SET is_active = NOT is_active " +
+                     "WHERE id = ? AND user_id = ?";
+        
+        try (Connection conn = getConnection("toggleGoalActiveStatus");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, goalId);
+            pstmt.setInt(2, currentUser.getId());
+            
+            if (pstmt.executeUpdate() == 0) {
+                return false;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+        fireGoalsChanged(currentUser.getId());
+        return true;
+    }
+    
+    /**
+     * Gets all study goals (both active and inactive) for the current user
+     */
+    public List<StudyGoal> getAllStudyGoals() {
+        if (currentUser == null) {
+            return new ArrayList<>();
+        }
+        
+        List<StudyGoal> goals = new ArrayList<>();
+        String sql = "SELECT * FROM study_goals WHERE user_id = ?";
+        
+        try (Connection conn = getConnection("getAllStudyGoals");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, currentUser.getId());
+            ResultSet rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                StudyGoal.PeriodType periodType = StudyGoal.PeriodType.valueOf(rs.getString("period_type"));
+                
+                StudyGoal goal = new StudyGoal(
+                    rs.getInt("id"),
+                    rs.getInt("user_id"),
+                    rs.getString("subject"),
+                    rs.getDouble("target_hours"),
+                    periodType,
+                    rs.getBoolean("is_active"),
+                    rs.getTimestamp("created_at")
+                );
+                goals.add(goal);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return goals;
+    }
+    
+    /**
+     * Deletes a study log entry for a given subject and date
+     * 
+     * @param subject the subject of the study log
+     * @param date the date of the study log
+     * @return true if the delete was successful, false otherwise
+     */
+    public boolean deleteStudyLog(String subject, Date date) {
+        if (currentUser == null) {
+            return false;
+        }
+        
+        int userId = currentUser.getId();
+        String hoursSql = "SELECT COALESCE(SUM(hours), 0) FROM study_logs WHERE user_id = ? AND subject = ? AND date = ?";
+        String sql = "DELETE FROM study_logs WHERE user_id = ? AND subject = ? AND date = ?";
+        double hoursRemoved = 0;
+        int rowsAffected;
+        
+        try (Connection conn = getConnection("deleteStudyLog")) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement hoursStmt = conn.prepareStatement(hoursSql);
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                // Hours being removed, reported to listeners once the delete commits
+                hoursStmt.setInt(1, userId);
+                hoursStmt.setString(2, subject);
+                hoursStmt.setDate(3, date);
+                try (ResultSet rs = hoursStmt.executeQuery()) {
+                    if (rs.next()) {
+                        hoursRemoved = rs.getDouble(1);
+                    }
+                }
+                
+                pstmt.setInt(1, userId);
+                pstmt.setString(2, subject);
+                pstmt.setDate(3, date);
+                rowsAffected = pstmt.executeUpdate();
+                
+                if (rowsAffected > 0) {
+                    refreshRollupDay(conn, userId, subject, date);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+        if (rowsAffected > 0) {
+            fireStudyTimeChanged(userId, subject, date, -hoursRemoved, -rowsAffected);
+        }
+        return rowsAffected > 0;
+    }
+    
+    /**
+     * Adds hours and sessions to a user's daily subject rollup.
+     * Must run in the same transaction as the log insert.
+     */
+    private void applyRollupDelta(Connection conn, int userId, String subject, Date day,
+                                  double hours, int sessions) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(ROLLUP_UPSERT_SQL)) {
+            pstmt.setInt(1, userId);
+            pstmt.setString(2, subject);
+            pstmt.setDate(3, day);
+            pstmt.setDouble(4, hours);
+            pstmt.setInt(5, sessions);
+            pstmt.executeUpdate();
+        }
+    }
+    
+    /**
+     * Adds the totals for several subjects and days to the rollup in batches.
+     * Must run in the same transaction as the log inserts.
+     */
+    private void applyRollupDeltas(Connection conn, int userId, Map<List<Object>, double[]> deltas)
+            throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(ROLLUP_UPSERT_SQL)) {
+            int pending = 0;
+            for (Map.Entry<List<Object>, double[]> entry : deltas.entrySet()) {
+                pstmt.setInt(1, userId);
+                pstmt.setString(2, (String) entry.getKey().get(0));
+                pstmt.setDate(3, (Date) entry.getKey().get(1));
+                pstmt.setDouble(4, entry.getValue()[0]);
+                pstmt.setInt(5, (int) entry.getValue()[1]);
+                pstmt.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    pstmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                pstmt.executeBatch();
+            }
+        }
+    }
+    
+    /**
+     * Recomputes one rollup row from the remaining logs after a delete.
+     * Must run in the same transaction as the log delete.
+     */
+    private void refreshRollupDay(Connection conn, int userId, String subject, Date day) throws SQLException {
+        String clearSql = "DELETE FROM study_daily_rollup WHERE user_id = ? AND subject = ? AND day = ?";
+        String fillSql = "INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions) " +
+                         "SELECT user_id, subject, date, SUM(hours), COUNT(*) FROM study_logs " +
+                         "WHERE user_id = ? AND subject = ? AND date = ? " +
+                         "GROUP BY user_id, subject, date";
+        for (String sql : new String[]{clearSql, fillSql}) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, userId);
+                pstmt.setString(2, subject);
+                pstmt.setDate(3, day);
+                pstmt.executeUpdate();
+            }
+        }
+    }
+    
+    /**
+     * Rebuilds the daily subject rollup from the raw study logs. Used to backfill
+     * existing data and to repair the rollup if it ever drifts.
+     * 
+     * @return the number of rollup rows written, or -1 on failure
+     */
+    public int rebuildDailyRollup() {
+        String clearSql = "DELETE FROM study_daily_rollup";
+        String fillSql = "INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions) " +
+                         "SELECT user_id, subject, date, SUM(hours), COUNT(*) " +
+                         "FROM study_logs GROUP BY user_id, subject, date";
+        
+        try (Connection conn = getConnection("rebuildDailyRollup")) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(clearSql);
+                int rows = stmt.executeUpdate(fillSql);
+                conn.commit();
+                return rows;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return -1;
+        }
+    }
+    
+    /**
+     * Receives rows of the daily subject rollup
+     */
+    interface RollupRowHandler {
+        void row(String subject, Date day, double hours, int sessions);
+    }
+    
+    /**
+     * Reads every daily rollup row for a user in one query
+     * 
+     * @return true if the rows were read, false on a database error
+     */
+    boolean readDailyRollup(int userId, RollupRowHandler handler) {
+        String sql = "SELECT subject, day, total_hours, sessions FROM study_daily_rollup WHERE user_id = ?";
+        
+        try (Connection conn = getConnection("readDailyRollup");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.row(rs.getString(1), rs.getDate(2), rs.getDouble(3), rs.getInt(4));
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+    
+    /**
+     * Gets the accumulated study hours for a specific goal
+     * 
+     * @param goal the study goal to check progress for
+     * @return the total hours studied for the goal's subject in the current period
+     */
+    public double getStudyHoursForGoal(StudyGoal goal) {
+        if (currentUser == null) {
+            return 0.0;
+        }
+        
+        String sql;
+        LocalDate today = LocalDate.now();
+        Date startDate = Date.valueOf(getPeriodStart(goal.getPeriodType(), today));
+        Date endDate = Date.valueOf(today);
+        
+        sql = "SELECT SUM(total_hours) as total_hours FROM study_daily_rollup " +
+              "WHERE user_id = ? AND subject = ? AND day BETWEEN ? AND ?";
+        
+        try (Connection conn = getConnection("getStudyHoursForGoal");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, currentUser.getId());
+            pstmt.setString(2, goal.getSubject());
+            pstmt.setDate(3, startDate);
+            pstmt.setDate(4, endDate);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                double totalHours = rs.getDouble("total_hours");
+                return totalHours;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return 0.0;
+    }
+    
+    /**
+     * Gets the accumulated study hours for all of the current user's active goals
+     * in a single grouped query, instead of one query per goal
+     * 
+     * @return hours studied in each goal's current period, keyed by goal ID
+     */
+    public Map<Integer, Double> getGoalProgress() {
+        Map<Integer, Double> progress = new HashMap<>();
+        if (currentUser == null) {
+            return progress;
+        }
+        
+        LocalDate today = LocalDate.now();
+        
+        // Each goal joins the daily rollup for its own subject and period window
+        String sql = "SELECT g.id, COALESCE(SUM(r.total_hours), 0) AS total_hours " +
+                     "FROM study_goals g " +
+                     "LEFT JOIN study_daily_rollup r ON r.user_id = g.user_id AND r.subject = g.subject " +
+                     "AND r.day >= CASE g.period_type " +
+                     "WHEN 'DAILY' THEN ? WHEN 'WEEKLY' THEN ? ELSE ? END " +
+                     "AND r.day <= ? " +
+                     "WHERE g.user_id = ? AND g.is_active = TRUE " +
+                     "GROUP BY g.id";
+        
+        try (Connection conn = getConnection("getGoalProgress");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setDate(1, Date.valueOf(getPeriodStart(StudyGoal.PeriodType.DAILY, today)));
+            pstmt.setDate(2, Date.valueOf(getPeriodStart(StudyGoal.PeriodType.WEEKLY, today)));
+            pstmt.setDate(3, Date.valueOf(getPeriodStart(StudyGoal.PeriodType.MONTHLY, today)));
+            pstmt.setDate(4, Date.valueOf(today));
+            pstmt.setInt(5, currentUser.getId());
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                progress.put(rs.getInt("id"), rs.getDouble("total_hours"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return progress;
+    }
+    
+    /**
+     * Gets the first day counted towards a goal period ending today
+     */
+    static LocalDate getPeriodStart(StudyGoal.PeriodType periodType, LocalDate today) {
+        switch (periodType) {
+            case WEEKLY:
+                // Current week (last 7 days)
+                return today.minusDays(7);
+            case MONTHLY:
+                // Current month (last 30 days)
+                return today.minusDays(30);
+            case DAILY:
+            default:
+                // Just today
+                return today;
+        }
+    }
+    
+    /**
+     * Get the total count of study sessions for a user
+     * @param userId The user ID
+     * @return Count of study logs
+     */
+    public int getStudyLogCount(int userId) {
+        int count = 0;
+        String query = "SELECT COUNT(*) FROM study_logs WHERE user_id = ?";
+        
+        try (Connection conn = getConnection("getStudyLogCount");
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    count = rs.getInt(1);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Get the total study hours for a user
+     * @param userId The user ID
+     * @return Total hours studied
+     */
+    public double getTotalStudyHours(int userId) {
+        double hours = 0.0;
+        String query = "SELECT SUM(hours) FROM study_logs WHERE user_id = ?";
+        
+        try (Connection conn = getConnection("getTotalStudyHours");
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            
+            stmt.setInt(1, userId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    hours = rs.getDouble(1);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        
+        return hours;
+    }
+    
+    /**
+     * Closes the database connection pool
+     */
+    public void close() {
+        synchronized (this) {
+            if (writeBehind != null) {
+                writeBehind.close();
+                try {
+                    Runtime.getRuntime().removeShutdownHook(writeBehindHook);
+                } catch (IllegalStateException e) {
+                    // Already shutting down
+                }
+            }
+            if (async != null) {
+                async.shutdown();
+            }
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+    
+    /**
+     * Gets the current logged-in user
+     */
+    public User getCurrentUser() {
+        return currentUser;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.studytracker.model;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Embedded H2 backend stored in a local file. Runs in-process, so it needs
+ * no database server. The schema is created from
+ * database/study_tracker_embedded.sql the first time the file is opened.
+ */
+public class EmbeddedBackend implements StorageBackend {
+    public static final String NAME = "embedded";
+
+    private static final String SCHEMA_SCRIPT = "/database/study_tracker_embedded.sql";
+
+    private final String url;
+
+    /**
+     * @param path database file path without the .mv.db extension
+     */
+    public EmbeddedBackend(String path) {
+        // H2 rejects implicitly relative paths; MySQL mode and a non-reserved DAY keep the shared SQL working
+        this.url = "jdbc:h2:file:" + new File(path).getAbsolutePath() +
+                   ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY";
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public String getUser() {
+        return "sa";
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public void loadDriver() throws ClassNotFoundException {
+        Class.forName("org.h2.Driver");
+    }
+
+    @Override
+    public void initialize(Connection conn) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(null, conn.getSchema(), "users", null)) {
+            if (rs.next()) {
+                return; // Schema already exists
+            }
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : readScript()) {
+                stmt.execute(sql);
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Splits the schema script into statements. Statements end with a
+     * semicolon at the end of a line; lines starting with -- are comments.
+     */
+    private static List<String> readScript() throws SQLException {
+        InputStream in = EmbeddedBackend.class.getResourceAsStream(SCHEMA_SCRIPT);
+        if (in == null) {
+            throw new SQLException("Schema script " + SCHEMA_SCRIPT + " is not on the classpath");
+        }
+
+        List<String> statements = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            StringBuilder current = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                    continue;
+                }
+                current.append(line).append('\n');
+                if (trimmed.endsWith(";")) {
+                    current.setLength(current.lastIndexOf(";"));
+                    statements.add(current.toString());
+                    current.setLength(0);
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("Could not read " + SCHEMA_SCRIPT, e);
+        }
+        return statements;
+    }
+
+    @Override
+    public String getCreateUserSql() {
+        return "INSERT INTO users (username, password, email, full_name, role_id) " +
+               "SELECT ?, ?, ?, ?, id FROM roles WHERE name = 'ROLE_USER'";
+    }
+
+    @Override
+    public String getStudyLogsSql() {
+        return "SELECT id, subject, hours, date, notes FROM study_logs " +
+               "WHERE user_id = ? ORDER BY date DESC, created_at DESC";
+    }
+
+    @Override
+    public String getSubjectSummarySql() {
+        return "SELECT subject, SUM(total_hours) AS total_hours, SUM(sessions) AS sessions, " +
+               "SUM(total_hours) / SUM(sessions) AS avg_hours_per_session, " +
+               "MIN(day) AS first_date, MAX(day) AS last_date " +
+               "FROM study_daily_rollup " +
+               "WHERE user_id = ? AND day BETWEEN ? AND ? " +
+               "GROUP BY subject ORDER BY total_hours DESC";
+    }
+}
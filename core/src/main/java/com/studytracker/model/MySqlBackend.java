@@ -0,0 +1,72 @@
+package com.studytracker.model;
+
+import java.sql.Connection;
+
+/**
+ * MySQL server backend. The schema and stored procedures are created by
+ * running database/study_tracker.sql against the server.
+ */
+public class MySqlBackend implements StorageBackend {
+    public static final String NAME = "mysql";
+
+    // Server-side prepared statements; our own per-connection cache keeps them open.
+    // Batched inserts are rewritten into multi-row INSERTs.
+    public static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/study_tracker" +
+                                             "?useServerPrepStmts=true&cachePrepStmts=false" +
+                                             "&rewriteBatchedStatements=true";
+
+    private final String url;
+    private final String user;
+    private final String password;
+
+    public MySqlBackend(String url, String user, String password) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    @Override
+    public String getUser() {
+        return user;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public void loadDriver() throws ClassNotFoundException {
+        Class.forName("com.mysql.cj.jdbc.Driver");
+    }
+
+    @Override
+    public void initialize(Connection conn) {
+        // The schema is installed by study_tracker.sql
+    }
+
+    @Override
+    public String getCreateUserSql() {
+        return "{call create_user(?, ?, ?, ?)}";
+    }
+
+    @Override
+    public String getStudyLogsSql() {
+        return "{call get_user_study_logs(?)}";
+    }
+
+    @Override
+    public String getSubjectSummarySql() {
+        return "{call get_user_study_summary(?, ?, ?)}";
+    }
+}
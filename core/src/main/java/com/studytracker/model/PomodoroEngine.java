@@ -0,0 +1,192 @@
+package com.studytracker.model;
+
+import com.studytracker.util.SharedScheduler;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Headless Pomodoro countdown. Remaining time is always computed from a
+ * deadline on a monotonic clock, so late or missed ticks never make the
+ * timer lose time. Ticks are scheduled for the moment the displayed second
+ * changes, and listeners hear only about those changes.
+ */
+public class PomodoroEngine {
+
+    public enum Mode {
+        POMODORO(25), SHORT_BREAK(5), LONG_BREAK(15);
+
+        private final int minutes;
+
+        Mode(int minutes) {
+            this.minutes = minutes;
+        }
+
+        public int getMinutes() {
+            return minutes;
+        }
+
+        public long getDurationNanos() {
+            return TimeUnit.MINUTES.toNanos(minutes);
+        }
+    }
+
+    /**
+     * Receives timer changes on the scheduler thread, or on the thread that
+     * called start, pause or reset. UI listeners must hand off to the EDT.
+     */
+    public interface Listener {
+        /**
+         * The whole seconds remaining or the running state changed
+         */
+        void timeChanged(int secondsRemaining, boolean running);
+
+        /**
+         * A session ran to zero
+         */
+        void finished(Mode mode);
+    }
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService scheduler;
+    private final Listener listener;
+
+    // Guarded by this
+    private Mode mode = Mode.POMODORO;
+    private long remainingNanos = Mode.POMODORO.getDurationNanos(); // While stopped
+    private long deadlineNanos; // While running
+    private boolean running = false;
+    private int reportedSeconds = -1;
+    private ScheduledFuture<?> nextTick;
+
+    /**
+     * Creates an engine on the system monotonic clock and the shared scheduler
+     */
+    public PomodoroEngine(Listener listener) {
+        this(System::nanoTime, SharedScheduler.get(), listener);
+    }
+
+    /**
+     * @param nanoClock monotonic time source, e.g. a fake clock in tests
+     * @param scheduler runs the ticks
+     */
+    public PomodoroEngine(LongSupplier nanoClock, ScheduledExecutorService scheduler, Listener listener) {
+        this.nanoClock = nanoClock;
+        this.scheduler = scheduler;
+        this.listener = listener;
+    }
+
+    public void start() {
+        synchronized (this) {
+            if (running || remainingNanos == 0) {
+                return;
+            }
+            deadlineNanos = nanoClock.getAsLong() + remainingNanos;
+            running = true;
+        }
+        tick();
+    }
+
+    public void pause() {
+        int seconds;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            remainingNanos = Math.max(0, deadlineNanos - nanoClock.getAsLong());
+            running = false;
+            cancelNextTick();
+            seconds = reportedSeconds = toSeconds(remainingNanos);
+        }
+        listener.timeChanged(seconds, false);
+    }
+
+    /**
+     * Stops the timer and sets it to the full length of a mode
+     */
+    public void reset(Mode newMode) {
+        int seconds;
+        synchronized (this) {
+            mode = newMode;
+            remainingNanos = newMode.getDurationNanos();
+            running = false;
+            cancelNextTick();
+            seconds = reportedSeconds = toSeconds(remainingNanos);
+        }
+        listener.timeChanged(seconds, false);
+    }
+
+    public synchronized Mode getMode() {
+        return mode;
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    public synchronized long getRemainingNanos() {
+        return running ? Math.max(0, deadlineNanos - nanoClock.getAsLong()) : remainingNanos;
+    }
+
+    /**
+     * Gets the seconds to display, rounded up so a full session starts at 25:00
+     */
+    public int getSecondsRemaining() {
+        return toSeconds(getRemainingNanos());
+    }
+
+    /**
+     * Reads the clock, reports a new second or the end of the session, and
+     * schedules the next tick. Run by the scheduler; tests with a fake clock
+     * may call it directly after advancing time.
+     */
+    void tick() {
+        int seconds;
+        boolean changed;
+        boolean done;
+        Mode finishedMode;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            long remaining = Math.max(0, deadlineNanos - nanoClock.getAsLong());
+            seconds = toSeconds(remaining);
+            changed = seconds != reportedSeconds;
+            reportedSeconds = seconds;
+            done = remaining == 0;
+            finishedMode = mode;
+
+            cancelNextTick();
+            if (done) {
+                running = false;
+                remainingNanos = 0;
+            } else {
+                // Wake when the rounded-up second next drops, measured from the deadline
+                long untilNextSecond = remaining - (long) (seconds - 1) * NANOS_PER_SECOND;
+                nextTick = scheduler.schedule(this::tick, untilNextSecond, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (changed || done) {
+            listener.timeChanged(seconds, !done);
+        }
+        if (done) {
+            listener.finished(finishedMode);
+        }
+    }
+
+    private void cancelNextTick() {
+        if (nextTick != null) {
+            nextTick.cancel(false);
+            nextTick = null;
+        }
+    }
+
+    private static int toSeconds(long nanos) {
+        return (int) ((nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,326 @@
+package com.studytracker.model;
+
+import com.studytracker.metrics.MetricsRegistry;
+import com.studytracker.metrics.OperationTimer;
+import com.studytracker.metrics.SlowQuery;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times data-access operations. A connection borrowed for an operation is
+ * wrapped so that everything between borrowing and closing it is recorded
+ * against the operation's timer, with the rows its statements read or
+ * changed and whether any of them failed. Statements slower than the
+ * threshold are logged with their SQL and bind parameters. Each operation is
+ * also recorded as a Flight Recorder event when a recording is running.
+ */
+class QueryInstrumentation {
+    // Bind values longer than this are cut short in the slow-query log
+    private static final int MAX_PARAMETER_LENGTH = 80;
+
+    private final MetricsRegistry registry;
+    private final long slowQueryNanos;
+    private final Set<String> secretOperations;
+
+    /**
+     * @param slowQueryMillis statements at least this slow are logged; 0 or less logs none
+     * @param secretOperations operations whose bind parameters are never logged, such as login
+     */
+    QueryInstrumentation(MetricsRegistry registry, long slowQueryMillis, Set<String> secretOperations) {
+        this.registry = registry;
+        this.slowQueryNanos = slowQueryMillis > 0 ? slowQueryMillis * 1_000_000 : Long.MAX_VALUE;
+        this.secretOperations = secretOperations;
+    }
+
+    /**
+     * Starts timing an operation that borrows a connection
+     */
+    Operation start(String operation) {
+        return new Operation(operation);
+    }
+
+    /**
+     * One call of a data-access method, from borrowing its connection to closing it
+     */
+    class Operation {
+        private final String name;
+        private final OperationTimer timer;
+        private final long started = System.nanoTime();
+        private final DataAccessEvent event = new DataAccessEvent();
+        private long rows = 0;
+        private int statements = 0;
+        private String firstSql;
+        private Throwable error;
+        private boolean finished = false;
+
+        Operation(String name) {
+            this.name = name;
+            this.timer = registry.timer("db." + name);
+            event.begin();
+        }
+
+        /**
+         * Wraps the borrowed connection; closing the wrapper ends the operation
+         */
+        Connection wrap(Connection conn) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(this, conn));
+        }
+
+        /**
+         * Ends an operation that failed before it got a connection
+         */
+        void failed(SQLException e) {
+            error = e;
+            finish();
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                timer.record(System.nanoTime() - started, rows, error);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = name;
+                    event.sql = firstSql;
+                    event.sqlId = firstSql != null ? Integer.toHexString(firstSql.hashCode()) : null;
+                    event.statements = statements;
+                    event.rows = rows;
+                    event.failed = error != null;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static Object invoke(Operation operation, Object target, Method method, Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                operation.error = e.getCause();
+            }
+            throw e.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Operation operation;
+        private final Connection target;
+
+        ConnectionHandler(Operation operation, Connection target) {
+            this.operation = operation;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    try {
+                        return QueryInstrumentation.invoke(operation, target, method, args);
+                    } finally {
+                        operation.finish();
+                    }
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "prepareStatement":
+                case "prepareCall":
+                    return wrap((Statement) QueryInstrumentation.invoke(operation, target, method, args),
+                                (String) args[0]);
+                case "createStatement":
+                    return wrap((Statement) QueryInstrumentation.invoke(operation, target, method, args), null);
+                default:
+                    return QueryInstrumentation.invoke(operation, target, method, args);
+            }
+        }
+
+        private Statement wrap(Statement statement, String sql) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                          : statement instanceof PreparedStatement ? PreparedStatement.class
+                          : Statement.class;
+            return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                new Class<?>[] { type }, new StatementHandler(operation, statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Operation operation;
+        private final Statement target;
+        private String sql;
+        private final List<Object> parameters = new ArrayList<>();
+        private int batchSize = 0;
+
+        StatementHandler(Operation operation, Statement target, String sql) {
+            this.operation = operation;
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "clearParameters":
+                    parameters.clear();
+                    break;
+                case "addBatch":
+                    batchSize++;
+                    if (args != null && args.length == 1) {
+                        sql = (String) args[0];
+                    }
+                    break;
+                case "clearBatch":
+                    batchSize = 0;
+                    break;
+                case "executeQuery":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                case "executeBatch":
+                case "executeLargeBatch":
+                case "execute":
+                    return execute(method, args);
+                case "getResultSet":
+                    return wrap((ResultSet) QueryInstrumentation.invoke(operation, target, method, args));
+                default:
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                    }
+                    break;
+            }
+            return QueryInstrumentation.invoke(operation, target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                sql = (String) args[0];
+            }
+            operation.statements++;
+            if (operation.firstSql == null) {
+                operation.firstSql = sql;
+            }
+            long started = System.nanoTime();
+            Object result;
+            try {
+                result = QueryInstrumentation.invoke(operation, target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                if (elapsed >= slowQueryNanos) {
+                    logSlowQuery(elapsed);
+                }
+            }
+
+            // Count what the statement changed; rows read are counted as the result set is read
+            if (result instanceof Integer || result instanceof Long) {
+                operation.rows += ((Number) result).longValue();
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    operation.rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    operation.rows += Math.max(count, 0);
+                }
+            }
+            if (method.getName().endsWith("Batch")) {
+                batchSize = 0;
+            }
+            return result instanceof ResultSet ? wrap((ResultSet) result) : result;
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+
+        private void logSlowQuery(long elapsedNanos) {
+            String text;
+            if (secretOperations.contains(operation.name)) {
+                text = "[" + parameters.size() + " parameters hidden]";
+            } else {
+                StringBuilder builder = new StringBuilder("[");
+                for (int i = 0; i < parameters.size(); i++) {
+                    builder.append(i > 0 ? ", " : "").append(format(parameters.get(i)));
+                }
+                text = builder.append("]").toString();
+            }
+            if (batchSize > 0) {
+                text += " last of a batch of " + batchSize;
+            }
+            SlowQuery query = new SlowQuery(System.currentTimeMillis(), operation.name, sql, text, elapsedNanos);
+            registry.recordSlowQuery(query);
+            System.err.println("Slow query: " + query);
+        }
+
+        private String format(Object value) {
+            if (!(value instanceof String)) {
+                return String.valueOf(value);
+            }
+            String text = (String) value;
+            if (text.length() > MAX_PARAMETER_LENGTH) {
+                text = text.substring(0, MAX_PARAMETER_LENGTH) + "...";
+            }
+            return "'" + text + "'";
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            if (resultSet == null) {
+                return null;
+            }
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, new ResultSetHandler(operation, resultSet));
+        }
+    }
+
+    /**
+     * Counts the rows read, so the timer shows how much each operation fetched
+     */
+    private static class ResultSetHandler implements InvocationHandler {
+        private final Operation operation;
+        private final ResultSet target;
+
+        ResultSetHandler(Operation operation, ResultSet target) {
+            this.operation = operation;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "next":
+                    Object hasRow = QueryInstrumentation.invoke(operation, target, method, args);
+                    if (Boolean.TRUE.equals(hasRow)) {
+                        operation.rows++;
+                    }
+                    return hasRow;
+                default:
+                    return QueryInstrumentation.invoke(operation, target, method, args);
+            }
+        }
+    }
+}
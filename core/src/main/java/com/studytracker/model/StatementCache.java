@@ -0,0 +1,208 @@
+package com.studytracker.model;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-connection LRU cache of prepared and callable statements keyed by SQL text.
+ * Statements handed out are proxies whose close() puts the statement back in the cache.
+ */
+class StatementCache {
+    private final Connection physical;
+    private final int capacity;
+    private final Counters counters;
+
+    // Access-ordered so the eldest entry is the least recently used
+    private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Hit/miss counters shared by all caches in a pool
+     */
+    static class Counters {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong evictions = new AtomicLong();
+    }
+
+    StatementCache(Connection physical, int capacity, Counters counters) {
+        this.physical = physical;
+        this.capacity = capacity;
+        this.counters = counters;
+    }
+
+    PreparedStatement prepareStatement(Connection owner, String sql) throws SQLException {
+        return (PreparedStatement) lookup(owner, sql, false);
+    }
+
+    CallableStatement prepareCall(Connection owner, String sql) throws SQLException {
+        return (CallableStatement) lookup(owner, sql, true);
+    }
+
+    private Object lookup(Connection owner, String sql, boolean callable) throws SQLException {
+        String key = (callable ? "C:" : "P:") + sql;
+        CachedStatement cached = statements.get(key);
+
+        if (cached != null && !cached.inUse) {
+            counters.hits.incrementAndGet();
+            cached.inUse = true;
+            return cached.proxy(owner);
+        }
+
+        counters.misses.incrementAndGet();
+        PreparedStatement statement = callable ? physical.prepareCall(sql) : physical.prepareStatement(sql);
+        if (cached != null) {
+            // Same SQL is already open on this connection (e.g. nested use), don't cache the duplicate
+            return new CachedStatement(null, statement, callable).proxy(owner);
+        }
+
+        cached = new CachedStatement(key, statement, callable);
+        cached.inUse = true;
+        statements.put(key, cached);
+        evictOverflow();
+        return cached.proxy(owner);
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedStatement> it = statements.values().iterator();
+        while (statements.size() > capacity && it.hasNext()) {
+            CachedStatement eldest = it.next();
+            it.remove();
+            counters.evictions.incrementAndGet();
+            if (eldest.inUse) {
+                // Closed for real once the borrower is done with it
+                eldest.key = null;
+            } else {
+                eldest.closeQuietly();
+            }
+        }
+    }
+
+    /**
+     * Marks every statement as available again when the connection returns to the pool
+     */
+    void releaseAll() {
+        for (CachedStatement cached : new ArrayList<>(statements.values())) {
+            if (cached.inUse) {
+                cached.reset();
+                cached.inUse = false;
+            }
+        }
+    }
+
+    void closeAll() {
+        List<CachedStatement> all = new ArrayList<>(statements.values());
+        statements.clear();
+        for (CachedStatement cached : all) {
+            cached.closeQuietly();
+        }
+    }
+
+    private class CachedStatement {
+        private String key;
+        private final PreparedStatement statement;
+        private final boolean callable;
+        private boolean inUse;
+
+        CachedStatement(String key, PreparedStatement statement, boolean callable) {
+            this.key = key;
+            this.statement = statement;
+            this.callable = callable;
+        }
+
+        Object proxy(Connection owner) {
+            Class<?> type = callable ? CallableStatement.class : PreparedStatement.class;
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new StatementHandler(this, owner));
+        }
+
+        /**
+         * Returns the statement to the cache, or closes it if it was evicted or never cached
+         */
+        void checkIn() {
+            if (key == null) {
+                closeQuietly();
+                return;
+            }
+            reset();
+            inUse = false;
+        }
+
+        void reset() {
+            try {
+                ResultSet rs = statement.getResultSet();
+                if (rs != null) {
+                    rs.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+            } catch (SQLException e) {
+                key = null;
+                statements.values().remove(this);
+                closeQuietly();
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                // Nothing useful to do with a failed close
+            }
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection owner;
+        private boolean closed = false;
+
+        StatementHandler(CachedStatement cached, Connection owner) {
+            this.cached = cached;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        cached.checkIn();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+
+            try {
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
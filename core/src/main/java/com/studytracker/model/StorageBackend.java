@@ -0,0 +1,70 @@
+package com.studytracker.model;
+
+import com.studytracker.util.AppConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A database engine the application can store its data in. DatabaseManager
+ * writes portable SQL itself and asks the backend only for the connection
+ * settings, schema setup and the statements that differ between engines.
+ * Statements starting with "{call" are run as stored procedure calls.
+ */
+public interface StorageBackend {
+
+    /**
+     * Gets the name used to select this backend in the db.backend setting
+     */
+    String getName();
+
+    String getUrl();
+
+    String getUser();
+
+    String getPassword();
+
+    /**
+     * Loads the JDBC driver for this engine
+     */
+    void loadDriver() throws ClassNotFoundException;
+
+    /**
+     * Creates the schema if the database is new. Called once at startup.
+     */
+    void initialize(Connection conn) throws SQLException;
+
+    /**
+     * Creates a user with the default role.
+     * Parameters: username, password, email, full name.
+     */
+    String getCreateUserSql();
+
+    /**
+     * Lists a user's study logs, newest first.
+     * Parameters: user ID. Columns: id, subject, hours, date, notes.
+     */
+    String getStudyLogsSql();
+
+    /**
+     * Sums the daily rollup per subject for a date range, most hours first.
+     * Parameters: user ID, start date, end date.
+     * Columns: subject, total_hours, sessions, avg_hours_per_session, first_date, last_date.
+     */
+    String getSubjectSummarySql();
+
+    /**
+     * Creates the backend selected by the db.backend setting ("mysql" or "embedded")
+     */
+    static StorageBackend fromConfig() {
+        String name = AppConfig.get("db.backend", MySqlBackend.NAME);
+        if (name.equalsIgnoreCase(EmbeddedBackend.NAME)) {
+            return new EmbeddedBackend(AppConfig.get("db.embedded.path", "data/study_tracker"));
+        }
+        return new MySqlBackend(
+            AppConfig.get("db.url", MySqlBackend.DEFAULT_URL),
+            AppConfig.get("db.user", "root"),
+            AppConfig.get("db.password", "1234")
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.studytracker.model;
+
+import java.sql.Date;
+
+/**
+ * Notified by DatabaseManager after writes to study logs and goals are
+ * committed. Called on the thread that made the write, so implementations
+ * must be thread-safe and quick.
+ */
+public interface StudyDataListener {
+
+    /**
+     * A user's study time for one subject on one day changed
+     * @param hoursDelta hours added, or negative if logs were deleted
+     * @param sessionsDelta logs added, or negative if logs were deleted
+     */
+    void studyTimeChanged(int userId, String subject, Date day, double hoursDelta, int sessionsDelta);
+
+    /**
+     * A user's goals were added or activated/deactivated
+     */
+    void goalsChanged(int userId);
+}
@@ -0,0 +1,79 @@
+package com.studytracker.model;
+
+import java.time.LocalDate;
+
+/**
+ * The days in a date range on which a user studied, one bit per day
+ * indexed by epoch day. A month fits in a single long.
+ */
+public class StudyDaySet {
+    private final long firstDay;
+    private final int length;
+    private final long[] words;
+
+    /**
+     * Creates an empty set covering from and to, inclusive
+     */
+    public StudyDaySet(LocalDate from, LocalDate to) {
+        this.firstDay = from.toEpochDay();
+        this.length = (int) Math.max(0, to.toEpochDay() - firstDay + 1);
+        this.words = new long[(length + 63) >>> 6];
+    }
+
+    private StudyDaySet(StudyDaySet other) {
+        this.firstDay = other.firstDay;
+        this.length = other.length;
+        this.words = other.words.clone();
+    }
+
+    /**
+     * Marks a day while the set is being filled; days outside the range are ignored
+     */
+    void add(LocalDate day) {
+        long index = day.toEpochDay() - firstDay;
+        if (index >= 0 && index < length) {
+            words[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * Gets a copy of this set with one more day marked
+     */
+    public StudyDaySet with(LocalDate day) {
+        StudyDaySet copy = new StudyDaySet(this);
+        copy.add(day);
+        return copy;
+    }
+
+    public boolean contains(LocalDate day) {
+        long index = day.toEpochDay() - firstDay;
+        return index >= 0 && index < length && (words[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks whether a day falls in the range this set covers
+     */
+    public boolean covers(LocalDate day) {
+        long index = day.toEpochDay() - firstDay;
+        return index >= 0 && index < length;
+    }
+
+    /**
+     * Gets the number of days studied
+     */
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public LocalDate getFrom() {
+        return LocalDate.ofEpochDay(firstDay);
+    }
+
+    public LocalDate getTo() {
+        return LocalDate.ofEpochDay(firstDay + length - 1);
+    }
+}
@@ -7,6 +7,11 @@ import java.sql.Timestamp;
  * Represents a study log entry in the Study Habit Tracker system
  */
 public class StudyLog {
+    // Longest subject the study_logs table holds
+    public static final int MAX_SUBJECT_LENGTH = 100;
+    // Largest hours value the study_logs table holds, DECIMAL(5,2)
+    public static final double MAX_HOURS = 999.99;
+
     private int id;
     private int userId;
     private String subject;
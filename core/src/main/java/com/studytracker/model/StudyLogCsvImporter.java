@@ -0,0 +1,261 @@
+package com.studytracker.model;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports study logs for the current user from a CSV file with the columns
+ * subject, hours, date (yyyy-MM-dd) and notes. An optional header row is
+ * skipped. The file is streamed and written in chunks, each in its own
+ * transaction, so memory use does not grow with the file size.
+ */
+public class StudyLogCsvImporter {
+    // Rows written per transaction
+    private static final int CHUNK_SIZE = 5000;
+
+    /**
+     * Receives progress while a file is imported, on the importing thread
+     */
+    public interface Listener {
+        void progress(int imported, long bytesRead, long totalBytes);
+
+        /**
+         * Checked between chunks; chunks already written stay imported
+         */
+        boolean isCancelled();
+    }
+
+    /**
+     * Outcome of an import
+     */
+    public static class Result {
+        private final int imported;
+        private final int skipped;
+        private final boolean cancelled;
+        private final String error;
+
+        Result(int imported, int skipped, boolean cancelled, String error) {
+            this.imported = imported;
+            this.skipped = skipped;
+            this.cancelled = cancelled;
+            this.error = error;
+        }
+
+        public int getImported() {
+            return imported;
+        }
+
+        /**
+         * Gets the number of rows that could not be parsed or do not fit the database
+         */
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Gets the reason the import stopped early, or null if it finished
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
+    private final DatabaseManager dbManager;
+
+    public StudyLogCsvImporter(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    public Result importFile(File file, Listener listener) {
+        User user = dbManager.getCurrentUser();
+        if (user == null) {
+            return new Result(0, 0, false, "No user is logged in");
+        }
+
+        long totalBytes = file.length();
+        int imported = 0;
+        int skipped = 0;
+        boolean firstRecord = true;
+        List<StudyLog> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (CountingInputStream counter = new CountingInputStream(new FileInputStream(file));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8))) {
+            List<String> fields;
+            while ((fields = readRecord(reader)) != null) {
+                StudyLog log = toStudyLog(user.getId(), fields);
+                if (log == null) {
+                    // A header row is expected to fail parsing; anything later is a bad row
+                    if (!firstRecord) {
+                        skipped++;
+                    }
+                } else {
+                    chunk.add(log);
+                }
+                firstRecord = false;
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    if (listener.isCancelled()) {
+                        return new Result(imported, skipped, true, null);
+                    }
+                    if (dbManager.addStudyLogs(chunk) < 0) {
+                        return new Result(imported, skipped, false, "Could not save rows to the database");
+                    }
+                    imported += chunk.size();
+                    chunk.clear();
+                    listener.progress(imported, counter.getCount(), totalBytes);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                if (listener.isCancelled()) {
+                    return new Result(imported, skipped, true, null);
+                }
+                if (dbManager.addStudyLogs(chunk) < 0) {
+                    return new Result(imported, skipped, false, "Could not save rows to the database");
+                }
+                imported += chunk.size();
+            }
+            listener.progress(imported, totalBytes, totalBytes);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new Result(imported, skipped, false, e.getMessage());
+        }
+
+        return new Result(imported, skipped, false, null);
+    }
+
+    /**
+     * Converts a record to a study log, or returns null if it is not valid
+     * or would not fit the study_logs columns
+     */
+    private static StudyLog toStudyLog(int userId, List<String> fields) {
+        if (fields.size() < 3) {
+            return null;
+        }
+        try {
+            String subject = fields.get(0).trim();
+            double hours = Double.parseDouble(fields.get(1).trim());
+            Date date = Date.valueOf(fields.get(2).trim());
+            String notes = fields.size() > 3 ? fields.get(3) : "";
+            // Hours are stored with two decimals, so 999.996 would round past the column's limit
+            double storedHours = Math.round(hours * 100) / 100.0;
+            if (subject.isEmpty() || subject.length() > StudyLog.MAX_SUBJECT_LENGTH
+                    || !(hours > 0) || storedHours > StudyLog.MAX_HOURS) {
+                return null;
+            }
+            return new StudyLog(userId, subject, hours, date, notes);
+        } catch (IllegalArgumentException e) {
+            return null; // Also covers NumberFormatException
+        }
+    }
+
+    /**
+     * Reads one CSV record. Quoted fields may contain commas, doubled quotes
+     * and line breaks. Returns null at the end of the input.
+     */
+    private static List<String> readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = reader.readLine(); // Skip blank lines
+        }
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Quoted field continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Counts the bytes read so progress can be reported against the file size
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.studytracker.model;
+
+import com.studytracker.util.SharedScheduler;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind queue for study logs captured in the background, such as
+ * finished Pomodoro sessions. Callers never wait: logs are queued and written
+ * in batches on a writer thread. If the database cannot take them, they are
+ * appended to a local journal and retried with backoff until they are saved.
+ * Logs the database rejects outright, such as a subject too long for its
+ * column, are moved to a separate rejected file instead, so they never hold
+ * up the logs behind them.
+ */
+public class StudyLogWriter {
+    // Most logs sent in one addStudyLogs call
+    private static final int MAX_BATCH = 500;
+
+    private static final long MIN_RETRY_MILLIS = 2000;
+    private static final long MAX_RETRY_MILLIS = 60000;
+
+    private final DatabaseManager dbManager;
+    private final File journal;
+    private final File rejected;
+    private final long lingerMillis;
+    private final LinkedBlockingQueue<StudyLog> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService writer;
+
+    // Set while a flush is queued, so bursts of submits share one flush
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    // Guards the journal file, so close() can append to it while the writer
+    // thread is waiting on the database
+    private final Object journalLock = new Object();
+
+    // Only touched on the writer thread
+    private long retryMillis = MIN_RETRY_MILLIS;
+    private boolean retryScheduled = false;
+
+    /**
+     * @param journal file for logs that could not be written yet
+     * @param rejected file for logs the database will never accept, kept for the user to fix by hand
+     * @param lingerMillis how long to collect logs before writing a batch
+     */
+    public StudyLogWriter(DatabaseManager dbManager, File journal, File rejected, long lingerMillis) {
+        this.dbManager = dbManager;
+        this.journal = journal;
+        this.rejected = rejected;
+        this.lingerMillis = lingerMillis;
+        recoverJournal();
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "study-log-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Queues a log to be written. Returns immediately.
+     */
+    public void submit(StudyLog log) {
+        queue.add(log);
+        if (closed.get()) {
+            journalQueue(); // Checked after adding, so a racing close() cannot strand it
+        } else {
+            scheduleFlush(lingerMillis);
+        }
+    }
+
+    /**
+     * Starts a write of everything queued or journaled, e.g. after login so
+     * logs spilled in an earlier session are saved for this user
+     */
+    public void flushAsync() {
+        scheduleFlush(0);
+    }
+
+    /**
+     * Gets the number of logs waiting in memory, not counting the journal
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Checks whether some logs are waiting in the journal for the database
+     */
+    public boolean hasJournaledLogs() {
+        return journal.length() > 0;
+    }
+
+    /**
+     * Stops the writer without waiting for the database, so it is safe to call
+     * on the EDT. Logs still in memory are journaled and written the next time
+     * a writer flushes.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        writer.shutdown();
+        journalQueue();
+    }
+
+    private void journalQueue() {
+        List<StudyLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        spill(remaining);
+    }
+
+    private void scheduleFlush(long delayMillis) {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Runnable task = () -> {
+            try {
+                writer.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false); // Closed; close() journals the queue
+            }
+        };
+        if (delayMillis > 0) {
+            SharedScheduler.get().schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Writes journaled logs first, so logs reach the database in the order
+     * they were captured, then the queue in batches. Runs on the writer thread.
+     */
+    private synchronized void flush() {
+        if (hasJournaledLogs() && !replayJournal()) {
+            // Database still unavailable; keep new logs behind the journaled ones
+            List<StudyLog> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            spill(pending);
+            scheduleRetry();
+            return;
+        }
+
+        List<StudyLog> batch = new ArrayList<>(MAX_BATCH);
+        while (queue.drainTo(batch, MAX_BATCH) > 0) {
+            if (!write(batch)) {
+                // The unwritten part of the batch is journaled; keep the rest of the queue behind it
+                List<StudyLog> pending = new ArrayList<>();
+                queue.drainTo(pending);
+                spill(pending);
+                scheduleRetry();
+                return;
+            }
+            batch.clear();
+        }
+        retryMillis = MIN_RETRY_MILLIS;
+    }
+
+    /**
+     * Writes the current user's logs; other users' logs are journaled until
+     * they next log in
+     * @return false if the database was unavailable; the logs not written are journaled
+     */
+    private boolean write(List<StudyLog> logs) {
+        User user = dbManager.getCurrentUser();
+        List<StudyLog> mine = new ArrayList<>(logs.size());
+        List<StudyLog> others = new ArrayList<>();
+        for (StudyLog log : logs) {
+            (user != null && log.getUserId() == user.getId() ? mine : others).add(log);
+        }
+        int saved = save(mine);
+        if (saved < mine.size()) {
+            List<StudyLog> unsaved = new ArrayList<>(mine.subList(saved, mine.size()));
+            unsaved.addAll(others);
+            spill(unsaved);
+            return false;
+        }
+        spill(others);
+        return true;
+    }
+    
+    /**
+     * Writes logs in order. A batch the database rejects outright is written
+     * again one log at a time, so only the logs it will never accept are
+     * moved to the rejected file.
+     * @return how many logs from the start of the list are done with, either
+     *         saved or rejected; fewer than all if the database became unavailable
+     */
+    private int save(List<StudyLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        try {
+            dbManager.writeStudyLogs(logs);
+            return logs.size();
+        } catch (SQLException e) {
+            if (!isRejected(e)) {
+                e.printStackTrace();
+                return 0;
+            }
+        }
+        for (int i = 0; i < logs.size(); i++) {
+            try {
+                dbManager.writeStudyLogs(logs.subList(i, i + 1));
+            } catch (SQLException e) {
+                if (!isRejected(e)) {
+                    e.printStackTrace();
+                    return i;
+                }
+                reject(logs.get(i), e);
+            }
+        }
+        return logs.size();
+    }
+    
+    /**
+     * Checks whether the database refused the data itself, so retrying can
+     * never succeed: SQLState class 22 (data exception) or 23 (integrity
+     * constraint violation). Anything else, including lost connections
+     * (class 08), is assumed to pass and is retried.
+     */
+    static boolean isRejected(SQLException e) {
+        boolean rejected = false;
+        for (Throwable t = e; t != null; t = t.getCause() != null ? t.getCause()
+                : t instanceof SQLException ? ((SQLException) t).getNextException() : null) {
+            if (!(t instanceof SQLException)) {
+                continue;
+            }
+            String state = ((SQLException) t).getSQLState();
+            if (t instanceof SQLTransientException || t instanceof SQLRecoverableException
+                    || (state != null && state.startsWith("08"))) {
+                return false;
+            }
+            if (t instanceof SQLDataException || t instanceof SQLIntegrityConstraintViolationException
+                    || (state != null && (state.startsWith("22") || state.startsWith("23")))) {
+                rejected = true;
+            }
+        }
+        return rejected;
+    }
+
+    private boolean replayJournal() {
+        byte[] data;
+        try {
+            synchronized (journalLock) {
+                data = Files.readAllBytes(journal.toPath());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+        List<StudyLog> journaled = parseJournal(data);
+
+        User user = dbManager.getCurrentUser();
+        List<StudyLog> mine = new ArrayList<>();
+        List<StudyLog> others = new ArrayList<>();
+        for (StudyLog log : journaled) {
+            (user != null && log.getUserId() == user.getId() ? mine : others).add(log);
+        }
+        if (mine.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < mine.size(); i += MAX_BATCH) {
+            List<StudyLog> batch = mine.subList(i, Math.min(mine.size(), i + MAX_BATCH));
+            int saved = save(batch);
+            if (saved < batch.size()) {
+                // Keep what was not written; earlier logs are already saved or rejected
+                others.addAll(mine.subList(i + saved, mine.size()));
+                rewriteJournal(others, data.length);
+                return false;
+            }
+        }
+        rewriteJournal(others, data.length);
+        return true;
+    }
+
+    private void scheduleRetry() {
+        if (retryScheduled) {
+            return;
+        }
+        retryScheduled = true;
+        long delay = retryMillis;
+        retryMillis = Math.min(MAX_RETRY_MILLIS, retryMillis * 2);
+        SharedScheduler.get().schedule(() -> {
+            try {
+                writer.execute(() -> {
+                    retryScheduled = false;
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                // Closed; the journal is replayed next time
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Appends logs to the journal and forces them to disk
+     */
+    private void spill(List<StudyLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        File parent = journal.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        synchronized (journalLock) {
+            try (FileOutputStream out = new FileOutputStream(journal, true)) {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                for (StudyLog log : logs) {
+                    writer.write(toLine(log));
+                }
+                writer.flush();
+                out.getFD().sync();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Appends a log the database will not accept to the rejected file, with
+     * the reason, and forces it to disk
+     */
+    private void reject(StudyLog log, SQLException reason) {
+        System.err.println("Study log rejected by the database, moved to " + rejected + ": " + reason.getMessage());
+        File parent = rejected.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (FileOutputStream out = new FileOutputStream(rejected, true)) {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            String line = toLine(log);
+            writer.write(line.substring(0, line.length() - 1) + "\t" + escape(reason.getMessage()) + "\n");
+            writer.flush();
+            out.getFD().sync();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Finishes a journal rewrite interrupted by a crash. The rewrite is
+     * written to a temporary file before it replaces the journal; if the
+     * journal is gone the temporary file is the latest copy, otherwise the
+     * journal is and the temporary file may be incomplete.
+     */
+    private void recoverJournal() {
+        File temp = new File(journal.getPath() + ".tmp");
+        try {
+            if (!temp.exists()) {
+                return;
+            }
+            if (journal.exists()) {
+                Files.delete(temp.toPath());
+            } else {
+                moveIntoPlace(temp, journal);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Replaces the first replayedBytes of the journal with the logs still
+     * waiting, keeping anything appended since it was read
+     */
+    private void rewriteJournal(List<StudyLog> logs, long replayedBytes) {
+        synchronized (journalLock) {
+            try {
+                byte[] appended;
+                try (FileInputStream in = new FileInputStream(journal)) {
+                    in.getChannel().position(replayedBytes);
+                    appended = in.readAllBytes();
+                }
+                if (logs.isEmpty() && appended.length == 0) {
+                    Files.deleteIfExists(journal.toPath());
+                    return;
+                }
+                File temp = new File(journal.getPath() + ".tmp");
+                try (FileOutputStream out = new FileOutputStream(temp)) {
+                    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                    for (StudyLog log : logs) {
+                        writer.write(toLine(log));
+                    }
+                    writer.flush();
+                    out.write(appended);
+                    out.getFD().sync();
+                }
+                moveIntoPlace(temp, journal);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Replaces the target in one rename where the file system allows it, so
+     * a crash leaves either the old or the new file
+     */
+    private static void moveIntoPlace(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(),
+                       StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // recoverJournal() picks up the temporary file if we crash in between
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static List<StudyLog> parseJournal(byte[] data) {
+        List<StudyLog> logs = new ArrayList<>();
+        for (String line : new String(data, StandardCharsets.UTF_8).split("\n")) {
+            StudyLog log = fromLine(line);
+            if (log != null) {
+                logs.add(log);
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Journal line: user id, date, hours, subject and notes, tab separated
+     */
+    private static String toLine(StudyLog log) {
+        return log.getUserId() + "\t" + log.getDate() + "\t" + log.getHours() + "\t" +
+               escape(log.getSubject()) + "\t" + escape(log.getNotes()) + "\n";
+    }
+
+    private static StudyLog fromLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 5) {
+            return null; // Torn write at the end of the file
+        }
+        try {
+            return new StudyLog(Integer.parseInt(fields[0]), unescape(fields[3]),
+                                Double.parseDouble(fields[2]), Date.valueOf(fields[1]), unescape(fields[4]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
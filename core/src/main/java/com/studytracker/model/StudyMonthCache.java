@@ -0,0 +1,123 @@
+package com.studytracker.model;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Caches the study days of one user by month for the calendar. Each month is
+ * read once with a range query; neighbouring months can be prefetched so
+ * paging through the calendar does not wait on the database. Write events
+ * keep cached months current.
+ */
+public class StudyMonthCache implements StudyDataListener {
+    // Two years of months; each entry is a few dozen bytes
+    private static final int MAX_MONTHS = 24;
+
+    private final DatabaseManager dbManager;
+    private final int userId;
+    private final Consumer<YearMonth> onChange;
+
+    // Loads in flight or done, least recently used first. Guarded by this.
+    private final LinkedHashMap<YearMonth, CompletableFuture<StudyDaySet>> months =
+        new LinkedHashMap<YearMonth, CompletableFuture<StudyDaySet>>(32, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, CompletableFuture<StudyDaySet>> eldest) {
+                return size() > MAX_MONTHS;
+            }
+        };
+
+    /**
+     * @param onChange told which month changed after a write, on the writing thread
+     */
+    public StudyMonthCache(DatabaseManager dbManager, int userId, Consumer<YearMonth> onChange) {
+        this.dbManager = dbManager;
+        this.userId = userId;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Gets a month's study days, starting a load if it is not cached. The
+     * returned future may be cancelled without affecting the cache.
+     */
+    public CompletableFuture<StudyDaySet> getMonth(YearMonth month) {
+        return load(month).copy();
+    }
+
+    /**
+     * Gets a month's study days if they are already loaded
+     * @return the days, or null if the month is not cached yet
+     */
+    public synchronized StudyDaySet getIfLoaded(YearMonth month) {
+        CompletableFuture<StudyDaySet> future = months.get(month);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Starts loading the months before and after a month
+     */
+    public void prefetchAround(YearMonth month) {
+        load(month.minusMonths(1));
+        load(month.plusMonths(1));
+    }
+
+    /**
+     * Drops every cached month so they are read again
+     */
+    public synchronized void invalidate() {
+        months.clear();
+    }
+
+    private synchronized CompletableFuture<StudyDaySet> load(YearMonth month) {
+        CompletableFuture<StudyDaySet> cached = months.get(month);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<StudyDaySet> future = dbManager.async()
+            .getStudyDays(userId, month.atDay(1), month.atEndOfMonth())
+            .thenApply(days -> {
+                if (days == null) {
+                    throw new IllegalStateException("Could not read study days for " + month);
+                }
+                return days;
+            });
+        months.put(month, future);
+        // A failed read is not cached, so the next request tries again
+        future.whenComplete((days, error) -> {
+            if (error != null) {
+                synchronized (this) {
+                    months.remove(month, future);
+                }
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void studyTimeChanged(int userId, String subject, Date day, double hoursDelta, int sessionsDelta) {
+        if (userId != this.userId) {
+            return;
+        }
+        YearMonth month = YearMonth.from(day.toLocalDate());
+        synchronized (this) {
+            StudyDaySet days = getIfLoaded(month);
+            if (days != null && sessionsDelta > 0) {
+                months.put(month, CompletableFuture.completedFuture(days.with(day.toLocalDate())));
+            } else {
+                // A delete may leave other logs that day, and a read in flight may miss
+                // this write, so read the month again
+                months.remove(month);
+            }
+        }
+        // Sent for uncached months too, so other views of the same data can refresh
+        onChange.accept(month);
+    }
+
+    @Override
+    public void goalsChanged(int userId) {
+        // Goals do not affect study days
+    }
+}
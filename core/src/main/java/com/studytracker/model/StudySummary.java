@@ -0,0 +1,158 @@
+package com.studytracker.model;
+
+import java.util.Arrays;
+
+/**
+ * Per-subject study totals for a date range, stored as parallel primitive
+ * arrays so charts can read them on every repaint without boxing or hashing.
+ * Rows are ordered by total hours, largest first.
+ */
+public class StudySummary {
+    private static final StudySummary EMPTY = new Builder(0).build();
+
+    private final int size;
+    private final String[] subjects;
+    private final double[] totalHours;
+    private final int[] sessions;
+    private final double[] avgHoursPerSession;
+    private final long[] firstEpochDay;
+    private final long[] lastEpochDay;
+
+    // Aggregates computed once when the summary is built
+    private final double grandTotalHours;
+    private final int grandTotalSessions;
+    private final double maxHours;
+    private final int mostStudiedIndex;
+
+    private StudySummary(int size, String[] subjects, double[] totalHours, int[] sessions,
+                         double[] avgHoursPerSession, long[] firstEpochDay, long[] lastEpochDay) {
+        this.size = size;
+        this.subjects = subjects;
+        this.totalHours = totalHours;
+        this.sessions = sessions;
+        this.avgHoursPerSession = avgHoursPerSession;
+        this.firstEpochDay = firstEpochDay;
+        this.lastEpochDay = lastEpochDay;
+
+        double total = 0;
+        int totalSessions = 0;
+        double max = 0;
+        int maxIndex = -1;
+        for (int i = 0; i < size; i++) {
+            total += totalHours[i];
+            totalSessions += sessions[i];
+            if (totalHours[i] > max) {
+                max = totalHours[i];
+                maxIndex = i;
+            }
+        }
+        this.grandTotalHours = total;
+        this.grandTotalSessions = totalSessions;
+        this.maxHours = max;
+        this.mostStudiedIndex = maxIndex;
+    }
+
+    public static StudySummary empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String getSubject(int index) {
+        return subjects[index];
+    }
+
+    public double getTotalHours(int index) {
+        return totalHours[index];
+    }
+
+    public int getSessions(int index) {
+        return sessions[index];
+    }
+
+    public double getAvgHoursPerSession(int index) {
+        return avgHoursPerSession[index];
+    }
+
+    public long getFirstEpochDay(int index) {
+        return firstEpochDay[index];
+    }
+
+    public long getLastEpochDay(int index) {
+        return lastEpochDay[index];
+    }
+
+    public double getGrandTotalHours() {
+        return grandTotalHours;
+    }
+
+    public int getGrandTotalSessions() {
+        return grandTotalSessions;
+    }
+
+    public double getMaxHours() {
+        return maxHours;
+    }
+
+    /**
+     * Gets the row with the most hours, or -1 if the summary is empty
+     */
+    public int getMostStudiedIndex() {
+        return mostStudiedIndex;
+    }
+
+    /**
+     * Accumulates rows into growable arrays
+     */
+    public static class Builder {
+        private int size = 0;
+        private String[] subjects;
+        private double[] totalHours;
+        private int[] sessions;
+        private double[] avgHoursPerSession;
+        private long[] firstEpochDay;
+        private long[] lastEpochDay;
+
+        public Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 8);
+            subjects = new String[capacity];
+            totalHours = new double[capacity];
+            sessions = new int[capacity];
+            avgHoursPerSession = new double[capacity];
+            firstEpochDay = new long[capacity];
+            lastEpochDay = new long[capacity];
+        }
+
+        public Builder add(String subject, double hours, int sessionCount, double avgHours,
+                           long firstDay, long lastDay) {
+            if (size == subjects.length) {
+                int capacity = size * 2;
+                subjects = Arrays.copyOf(subjects, capacity);
+                totalHours = Arrays.copyOf(totalHours, capacity);
+                sessions = Arrays.copyOf(sessions, capacity);
+                avgHoursPerSession = Arrays.copyOf(avgHoursPerSession, capacity);
+                firstEpochDay = Arrays.copyOf(firstEpochDay, capacity);
+                lastEpochDay = Arrays.copyOf(lastEpochDay, capacity);
+            }
+            subjects[size] = subject;
+            totalHours[size] = hours;
+            sessions[size] = sessionCount;
+            avgHoursPerSession[size] = avgHours;
+            firstEpochDay[size] = firstDay;
+            lastEpochDay[size] = lastDay;
+            size++;
+            return this;
+        }
+
+        public StudySummary build() {
+            return new StudySummary(size, subjects, totalHours, sessions,
+                                    avgHoursPerSession, firstEpochDay, lastEpochDay);
+        }
+    }
+}
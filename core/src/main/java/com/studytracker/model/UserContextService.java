@@ -0,0 +1,206 @@
+package com.studytracker.model;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the current user's study context in memory for the chatbot. The data
+ * is read from the daily rollup once per user and then updated from write
+ * events, so building a prompt does not query the database. Snapshots are
+ * immutable and cached until the next change or the next day.
+ */
+public class UserContextService implements StudyDataListener {
+    // Per-subject daily history kept for goal progress; covers the longest goal period
+    private static final int GOAL_WINDOW_DAYS = 30;
+
+    // Reloads retried when writes race the initial read, before accepting the result
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final DatabaseManager dbManager;
+    private final Object loadLock = new Object();
+
+    // Loaded state, guarded by this
+    private Totals totals;
+    private List<StudyGoal> goals = new ArrayList<>();
+    private boolean goalsStale = true;
+    private long changeCount = 0;
+
+    private volatile UserContextSnapshot snapshot;
+
+    /**
+     * In-memory copy of one user's rollup data
+     */
+    private static class Totals {
+        final int userId;
+        final LocalDate windowStart;
+        // Hours and sessions per subject
+        final Map<String, double[]> bySubject = new HashMap<>();
+        // Sessions per day, for the streak
+        final TreeMap<LocalDate, Integer> sessionsByDay = new TreeMap<>();
+        // Hours per subject per day since windowStart, for goal progress
+        final Map<String, TreeMap<LocalDate, Double>> recentHours = new HashMap<>();
+
+        Totals(int userId, LocalDate windowStart) {
+            this.userId = userId;
+            this.windowStart = windowStart;
+        }
+
+        void add(String subject, LocalDate day, double hours, int sessions) {
+            double[] subjectTotals = bySubject.computeIfAbsent(subject, k -> new double[2]);
+            subjectTotals[0] += hours;
+            subjectTotals[1] += sessions;
+            if (subjectTotals[1] <= 0) {
+                bySubject.remove(subject);
+            }
+
+            if (sessionsByDay.merge(day, sessions, Integer::sum) <= 0) {
+                sessionsByDay.remove(day);
+            }
+
+            if (!day.isBefore(windowStart)) {
+                TreeMap<LocalDate, Double> days = recentHours.computeIfAbsent(subject, k -> new TreeMap<>());
+                // Deletes remove a whole subject-day, so its hours return to zero
+                if (Math.abs(days.merge(day, hours, Double::sum)) < 1e-9) {
+                    days.remove(day);
+                }
+            }
+        }
+    }
+
+    public UserContextService(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    /**
+     * Gets the current user's context. Free when nothing has changed; after a
+     * write the snapshot is rebuilt from memory, and only the first call for
+     * a user reads the database.
+     *
+     * @return the snapshot, or null if no user is logged in or it could not be loaded
+     */
+    public UserContextSnapshot getSnapshot() {
+        User user = dbManager.getCurrentUser();
+        if (user == null) {
+            return null;
+        }
+        LocalDate today = LocalDate.now();
+        UserContextSnapshot current = snapshot;
+        if (current != null && current.getUserId() == user.getId() && current.getAsOf().equals(today)) {
+            return current;
+        }
+
+        synchronized (loadLock) {
+            for (int attempt = 1; ; attempt++) {
+                boolean needTotals;
+                long changesBefore;
+                synchronized (this) {
+                    needTotals = totals == null || totals.userId != user.getId();
+                    if (!needTotals && !goalsStale) {
+                        snapshot = build(user, today);
+                        return snapshot;
+                    }
+                    changesBefore = changeCount;
+                }
+
+                // Read outside the lock so write events are not held up
+                Totals loaded = needTotals ? loadTotals(user.getId(), today) : null;
+                if (needTotals && loaded == null) {
+                    return null;
+                }
+                List<StudyGoal> loadedGoals = dbManager.getStudyGoals();
+
+                synchronized (this) {
+                    // A write that committed during the read may or may not be in it
+                    if (changeCount != changesBefore && attempt < MAX_LOAD_ATTEMPTS) {
+                        continue;
+                    }
+                    if (loaded != null) {
+                        totals = loaded;
+                    }
+                    goals = loadedGoals;
+                    goalsStale = false;
+                    snapshot = build(user, today);
+                    return snapshot;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void studyTimeChanged(int userId, String subject, Date day,
+                                              double hoursDelta, int sessionsDelta) {
+        changeCount++;
+        if (totals != null && totals.userId == userId) {
+            totals.add(subject, day.toLocalDate(), hoursDelta, sessionsDelta);
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public synchronized void goalsChanged(int userId) {
+        changeCount++;
+        if (totals != null && totals.userId == userId) {
+            // Goals are reloaded on the next read; they change rarely and the list is small
+            goalsStale = true;
+            snapshot = null;
+        }
+    }
+
+    private Totals loadTotals(int userId, LocalDate today) {
+        Totals loaded = new Totals(userId, today.minusDays(GOAL_WINDOW_DAYS));
+        boolean ok = dbManager.readDailyRollup(userId,
+            (subject, day, hours, sessions) -> loaded.add(subject, day.toLocalDate(), hours, sessions));
+        return ok ? loaded : null;
+    }
+
+    /**
+     * Builds a snapshot from the loaded state. Caller holds the lock.
+     */
+    private UserContextSnapshot build(User user, LocalDate today) {
+        // Subjects by hours, largest first
+        List<Map.Entry<String, double[]>> entries = new ArrayList<>(totals.bySubject.entrySet());
+        entries.sort((a, b) -> Double.compare(b.getValue()[0], a.getValue()[0]));
+        String[] subjects = new String[entries.size()];
+        double[] subjectHours = new double[entries.size()];
+        int[] subjectSessions = new int[entries.size()];
+        double totalHours = 0;
+        int totalSessions = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            subjects[i] = entries.get(i).getKey();
+            subjectHours[i] = entries.get(i).getValue()[0];
+            subjectSessions[i] = (int) entries.get(i).getValue()[1];
+            totalHours += subjectHours[i];
+            totalSessions += subjectSessions[i];
+        }
+
+        // Streak counts back from today, or from yesterday if today has no logs yet
+        LocalDate day = totals.sessionsByDay.containsKey(today) ? today : today.minusDays(1);
+        int streak = 0;
+        while (totals.sessionsByDay.containsKey(day)) {
+            streak++;
+            day = day.minusDays(1);
+        }
+
+        // Progress uses the same period windows as the goals panel
+        List<UserContextSnapshot.GoalProgress> progress = new ArrayList<>(goals.size());
+        for (StudyGoal goal : goals) {
+            double hours = 0;
+            TreeMap<LocalDate, Double> days = totals.recentHours.get(goal.getSubject());
+            if (days != null) {
+                LocalDate start = DatabaseManager.getPeriodStart(goal.getPeriodType(), today);
+                for (double h : days.subMap(start, true, today, true).values()) {
+                    hours += h;
+                }
+            }
+            progress.add(new UserContextSnapshot.GoalProgress(goal, hours));
+        }
+
+        return new UserContextSnapshot(user.getId(), user.getFullName(), today, totalHours, totalSessions,
+                                       subjects, subjectHours, subjectSessions, progress, streak);
+    }
+}
@@ -0,0 +1,156 @@
+package com.studytracker.model;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable summary of a user's study data at one point in time: totals,
+ * hours per subject, active goals with progress and the current streak.
+ * The prompt text is built once, so reading it costs nothing.
+ */
+public class UserContextSnapshot {
+
+    /**
+     * An active goal and the hours studied towards it in its current period
+     */
+    public static class GoalProgress {
+        private final StudyGoal goal;
+        private final double hoursDone;
+
+        GoalProgress(StudyGoal goal, double hoursDone) {
+            this.goal = goal;
+            this.hoursDone = hoursDone;
+        }
+
+        public StudyGoal getGoal() {
+            return goal;
+        }
+
+        public double getHoursDone() {
+            return hoursDone;
+        }
+    }
+
+    private final int userId;
+    private final LocalDate asOf;
+    private final double totalHours;
+    private final int totalSessions;
+    // Parallel arrays ordered by hours, largest first
+    private final String[] subjects;
+    private final double[] subjectHours;
+    private final int[] subjectSessions;
+    private final List<GoalProgress> goals;
+    private final int streakDays;
+    private final String promptText;
+
+    UserContextSnapshot(int userId, String fullName, LocalDate asOf, double totalHours, int totalSessions,
+                        String[] subjects, double[] subjectHours, int[] subjectSessions,
+                        List<GoalProgress> goals, int streakDays) {
+        this.userId = userId;
+        this.asOf = asOf;
+        this.totalHours = totalHours;
+        this.totalSessions = totalSessions;
+        this.subjects = subjects;
+        this.subjectHours = subjectHours;
+        this.subjectSessions = subjectSessions;
+        this.goals = Collections.unmodifiableList(goals);
+        this.streakDays = streakDays;
+        this.promptText = buildPromptText(fullName);
+    }
+
+    private String buildPromptText(String fullName) {
+        StringBuilder text = new StringBuilder(256);
+        text.append("User: ").append(fullName).append("\n");
+        text.append("Study statistics: ")
+            .append(totalSessions).append(" sessions, ")
+            .append(String.format("%.1f", totalHours)).append(" total hours\n");
+
+        text.append("Hours by subject: ");
+        if (subjects.length == 0) {
+            text.append("none yet");
+        }
+        for (int i = 0; i < subjects.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(subjects[i]).append(' ')
+                .append(String.format("%.1f", subjectHours[i])).append("h (")
+                .append(subjectSessions[i]).append(subjectSessions[i] == 1 ? " session)" : " sessions)");
+        }
+        text.append("\n");
+
+        text.append("Current study streak: ").append(streakDays)
+            .append(streakDays == 1 ? " day\n" : " days\n");
+
+        text.append("Active study goals: ");
+        if (goals.isEmpty()) {
+            text.append("none");
+        }
+        for (int i = 0; i < goals.size(); i++) {
+            StudyGoal goal = goals.get(i).getGoal();
+            if (i > 0) {
+                text.append("; ");
+            }
+            text.append(goal.getSubject()).append(' ')
+                .append(String.format("%.1f", goals.get(i).getHoursDone())).append('/')
+                .append(String.format("%.1f", goal.getTargetHours())).append("h ")
+                .append(goal.getPeriodType().toString().toLowerCase());
+        }
+        return text.append("\n").toString();
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the day the streak and goal progress were computed for
+     */
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public double getTotalHours() {
+        return totalHours;
+    }
+
+    public int getTotalSessions() {
+        return totalSessions;
+    }
+
+    public int getSubjectCount() {
+        return subjects.length;
+    }
+
+    public String getSubject(int i) {
+        return subjects[i];
+    }
+
+    public double getSubjectHours(int i) {
+        return subjectHours[i];
+    }
+
+    public int getSubjectSessions(int i) {
+        return subjectSessions[i];
+    }
+
+    public List<GoalProgress> getGoals() {
+        return goals;
+    }
+
+    /**
+     * Gets the number of consecutive days studied, ending today, or
+     * yesterday if nothing has been logged yet today
+     */
+    public int getStreakDays() {
+        return streakDays;
+    }
+
+    /**
+     * Gets the context as text for a chatbot prompt
+     */
+    public String toPromptText() {
+        return promptText;
+    }
+}
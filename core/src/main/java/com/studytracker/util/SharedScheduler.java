@@ -0,0 +1,27 @@
+package com.studytracker.util;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * One background scheduler for short timed tasks, so features that need
+ * periodic work do not each start their own timer thread. Tasks must be quick
+ * and must never block; anything slow belongs on its own executor.
+ */
+public class SharedScheduler {
+    private static ScheduledExecutorService scheduler;
+
+    public static synchronized ScheduledExecutorService get() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "shared-scheduler");
+                t.setDaemon(true);
+                return t;
+            });
+            // Drop cancelled tasks straight away instead of when they come due
+            executor.setRemoveOnCancelPolicy(true);
+            scheduler = executor;
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,84 @@
+-- Study Habit Tracker - add the daily rollup table to an existing database
+-- Run once against a database created from an older study_tracker.sql:
+--   mysql -u root -p < core/src/main/resources/database/study_daily_rollup_migration.sql
+USE study_tracker;
+
+CREATE TABLE IF NOT EXISTS study_daily_rollup (
+    user_id INT NOT NULL,
+    subject VARCHAR(100) NOT NULL,
+    day DATE NOT NULL,
+    total_hours DECIMAL(9,2) NOT NULL DEFAULT 0,
+    sessions INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, subject),
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    INDEX idx_user_subject_day (user_id, subject, day)
+);
+
+-- Replace the procedures that write or read study totals
+DROP PROCEDURE IF EXISTS add_study_log;
+DROP PROCEDURE IF EXISTS get_user_study_summary;
+DROP PROCEDURE IF EXISTS rebuild_study_daily_rollup;
+
+DELIMITER //
+CREATE PROCEDURE add_study_log(
+    IN p_user_id INT,
+    IN p_subject VARCHAR(100),
+    IN p_hours DECIMAL(5,2),
+    IN p_date DATE,
+    IN p_notes TEXT
+)
+BEGIN
+    START TRANSACTION;
+    INSERT INTO study_logs (user_id, subject, hours, date, notes)
+    VALUES (p_user_id, p_subject, p_hours, p_date, p_notes);
+    
+    INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions)
+    VALUES (p_user_id, p_subject, p_date, p_hours, 1)
+    ON DUPLICATE KEY UPDATE
+        total_hours = total_hours + VALUES(total_hours),
+        sessions = sessions + 1;
+    COMMIT;
+END //
+DELIMITER ;
+
+DELIMITER //
+CREATE PROCEDURE get_user_study_summary(
+    IN p_user_id INT,
+    IN p_start_date DATE,
+    IN p_end_date DATE
+)
+BEGIN
+    SELECT 
+        subject,
+        SUM(total_hours) as total_hours,
+        SUM(sessions) as sessions,
+        SUM(total_hours) / SUM(sessions) as avg_hours_per_session,
+        MIN(day) as first_date,
+        MAX(day) as last_date
+    FROM 
+        study_daily_rollup
+    WHERE 
+        user_id = p_user_id
+        AND day BETWEEN p_start_date AND p_end_date
+    GROUP BY 
+        subject
+    ORDER BY 
+        total_hours DESC;
+END //
+DELIMITER ;
+
+DELIMITER //
+CREATE PROCEDURE rebuild_study_daily_rollup()
+BEGIN
+    START TRANSACTION;
+    DELETE FROM study_daily_rollup;
+    INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions)
+    SELECT user_id, subject, date, SUM(hours), COUNT(*)
+    FROM study_logs
+    GROUP BY user_id, subject, date;
+    COMMIT;
+END //
+DELIMITER ;
+
+-- Backfill from existing logs
+CALL rebuild_study_daily_rollup();
@@ -2,6 +2,7 @@
 CREATE DATABASE study_tracker;
 USE study_tracker;
 -- Drop tables if they exist to allow clean recreation
+DROP TABLE IF EXISTS study_daily_rollup;
 DROP TABLE IF EXISTS study_goals;
 DROP TABLE IF EXISTS study_logs;
 DROP TABLE IF EXISTS users;
@@ -42,6 +43,20 @@ CREATE TABLE study_logs (
     INDEX idx_user_date (user_id, date)  -- Index for faster queries filtered by user and date
 );
 
+-- Create daily rollup of study hours per user, subject and day.
+-- Kept current on every study log write so statistics and goal progress
+-- never have to scan the raw logs.
+CREATE TABLE study_daily_rollup (
+    user_id INT NOT NULL,
+    subject VARCHAR(100) NOT NULL,
+    day DATE NOT NULL,
+    total_hours DECIMAL(9,2) NOT NULL DEFAULT 0,
+    sessions INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, subject),  -- Range scans for a user's date window
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    INDEX idx_user_subject_day (user_id, subject, day)  -- Goal progress lookups
+);
+
 -- Create study goals table
 CREATE TABLE study_goals (
     id INT PRIMARY KEY AUTO_INCREMENT,
@@ -98,8 +113,16 @@ CREATE PROCEDURE add_study_log(
     IN p_notes TEXT
 )
 BEGIN
+    START TRANSACTION;
     INSERT INTO study_logs (user_id, subject, hours, date, notes)
     VALUES (p_user_id, p_subject, p_hours, p_date, p_notes);
+    
+    INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions)
+    VALUES (p_user_id, p_subject, p_date, p_hours, 1)
+    ON DUPLICATE KEY UPDATE
+        total_hours = total_hours + VALUES(total_hours),
+        sessions = sessions + 1;
+    COMMIT;
 END //
 DELIMITER ;
 
@@ -113,16 +136,16 @@ CREATE PROCEDURE get_user_study_summary(
 BEGIN
     SELECT 
         subject,
-        SUM(hours) as total_hours,
-        COUNT(*) as sessions,
-        AVG(hours) as avg_hours_per_session,
-        MIN(date) as first_date,
-        MAX(date) as last_date
+        SUM(total_hours) as total_hours,
+        SUM(sessions) as sessions,
+        SUM(total_hours) / SUM(sessions) as avg_hours_per_session,
+        MIN(day) as first_date,
+        MAX(day) as last_date
     FROM 
-        study_logs
+        study_daily_rollup
     WHERE 
         user_id = p_user_id
-        AND date BETWEEN p_start_date AND p_end_date
+        AND day BETWEEN p_start_date AND p_end_date
     GROUP BY 
         subject
     ORDER BY 
@@ -130,6 +153,20 @@ BEGIN
 END //
 DELIMITER ;
 
+-- Create stored procedure to rebuild the daily rollup from the raw logs
+DELIMITER //
+CREATE PROCEDURE rebuild_study_daily_rollup()
+BEGIN
+    START TRANSACTION;
+    DELETE FROM study_daily_rollup;
+    INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions)
+    SELECT user_id, subject, date, SUM(hours), COUNT(*)
+    FROM study_logs
+    GROUP BY user_id, subject, date;
+    COMMIT;
+END //
+DELIMITER ;
+
 CALL create_user('rahul', 'password123', 'rahul@example.com', 'Rahul Sharma');
 CALL create_user('priya', 'password456', 'priya@example.com', 'Priya Patel');
 CALL create_user('amit', 'password789', 'amit@example.com', 'Amit Singh');
@@ -190,4 +227,7 @@ INSERT INTO study_goals (user_id, subject, target_hours, period_type, is_active)
 (@divya_id, 'Psychology', 8.0, 'WEEKLY', TRUE),
 (@divya_id, 'Sociology', 6.0, 'WEEKLY', TRUE),
 (@ananya_id, 'General Studies', 20.0, 'WEEKLY', TRUE),
-(@ananya_id, 'Indian Polity', 15.0, 'WEEKLY', TRUE);
\ No newline at end of file
+(@ananya_id, 'Indian Polity', 15.0, 'WEEKLY', TRUE);
+
+-- Populate the daily rollup for the sample logs inserted above
+CALL rebuild_study_daily_rollup();
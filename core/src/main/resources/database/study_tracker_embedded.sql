@@ -0,0 +1,124 @@
+-- Study Habit Tracker Database Schema for the embedded (H2) backend
+-- Translated from study_tracker.sql: same tables and sample data, no stored
+-- procedures. The application runs this automatically on a new database file.
+
+-- Create roles table
+CREATE TABLE roles (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+
+-- Insert default roles
+INSERT INTO roles (name) VALUES ('ROLE_USER');
+INSERT INTO roles (name) VALUES ('ROLE_ADMIN');
+
+-- Create users table
+CREATE TABLE users (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(100) NOT NULL,  -- Should store hashed passwords in a real app
+    email VARCHAR(100) NOT NULL UNIQUE,
+    full_name VARCHAR(100) NOT NULL,
+    role_id INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (role_id) REFERENCES roles(id)
+);
+
+-- Create study_logs table
+CREATE TABLE study_logs (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    user_id INT NOT NULL,
+    subject VARCHAR(100) NOT NULL,
+    hours DECIMAL(5,2) NOT NULL,
+    date DATE NOT NULL,
+    notes VARCHAR(65535),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+CREATE INDEX idx_user_date ON study_logs (user_id, date);
+
+-- Create daily rollup of study hours per user, subject and day
+CREATE TABLE study_daily_rollup (
+    user_id INT NOT NULL,
+    subject VARCHAR(100) NOT NULL,
+    day DATE NOT NULL,
+    total_hours DECIMAL(9,2) NOT NULL DEFAULT 0,
+    sessions INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, subject),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+CREATE INDEX idx_user_subject_day ON study_daily_rollup (user_id, subject, day);
+
+-- Create study goals table
+CREATE TABLE study_goals (
+    id INT PRIMARY KEY AUTO_INCREMENT,
+    user_id INT NOT NULL,
+    subject VARCHAR(100) NOT NULL,
+    target_hours DECIMAL(5,2) NOT NULL,
+    period_type ENUM('DAILY', 'WEEKLY', 'MONTHLY') NOT NULL,
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+-- Sample users
+INSERT INTO users (username, password, email, full_name, role_id)
+SELECT 'rahul', 'password123', 'rahul@example.com', 'Rahul Sharma', id FROM roles WHERE name = 'ROLE_USER';
+INSERT INTO users (username, password, email, full_name, role_id)
+SELECT 'priya', 'password456', 'priya@example.com', 'Priya Patel', id FROM roles WHERE name = 'ROLE_USER';
+INSERT INTO users (username, password, email, full_name, role_id)
+SELECT 'amit', 'password789', 'amit@example.com', 'Amit Singh', id FROM roles WHERE name = 'ROLE_USER';
+INSERT INTO users (username, password, email, full_name, role_id)
+SELECT 'divya', 'divya123', 'divya@example.com', 'Divya Agarwal', id FROM roles WHERE name = 'ROLE_USER';
+INSERT INTO users (username, password, email, full_name, role_id)
+SELECT 'ananya', 'ananya123', 'ananya@example.com', 'Ananya Reddy', id FROM roles WHERE name = 'ROLE_USER';
+
+-- Sample study logs
+INSERT INTO study_logs (user_id, subject, hours, date, notes)
+SELECT u.id, s.subject, s.hours, DATEADD('DAY', -s.days_ago, CURRENT_DATE), s.notes
+FROM (VALUES
+    ('rahul', 'Anatomy', 3.5, 1, 'Studied muscular system'),
+    ('rahul', 'Physiology', 2.5, 2, 'Cardiovascular system'),
+    ('rahul', 'Biochemistry', 2.0, 3, 'Metabolism pathways'),
+    ('rahul', 'Pathology', 3.0, 4, 'Neoplasia chapter'),
+    ('priya', 'Accountancy', 3.0, 1, 'Partnership accounts'),
+    ('priya', 'Business Studies', 2.5, 2, 'Marketing strategies'),
+    ('priya', 'Economics', 2.0, 3, 'Demand analysis'),
+    ('priya', 'Statistics', 1.5, 4, 'Probability distributions'),
+    ('amit', 'Engineering Drawing', 3.0, 1, 'Isometric projections'),
+    ('amit', 'Electrical Engineering', 2.5, 2, 'Circuit analysis'),
+    ('amit', 'Mechanical Engineering', 2.0, 3, 'Thermodynamics'),
+    ('amit', 'Computer Programming', 4.0, 4, 'C++ object-oriented programming'),
+    ('divya', 'Psychology', 2.5, 1, 'Cognitive psychology'),
+    ('divya', 'Sociology', 2.0, 2, 'Social institutions'),
+    ('divya', 'Political Science', 3.0, 3, 'Indian political thought'),
+    ('divya', 'History', 2.5, 4, 'Modern Indian history'),
+    ('ananya', 'General Studies', 4.0, 1, 'Current affairs'),
+    ('ananya', 'Indian Polity', 3.0, 2, 'Constitutional amendments'),
+    ('ananya', 'Geography', 2.5, 3, 'Indian economic geography'),
+    ('ananya', 'History', 3.0, 4, 'Ancient Indian history')
+) AS s(username, subject, hours, days_ago, notes)
+JOIN users u ON u.username = s.username;
+
+-- Sample study goals
+INSERT INTO study_goals (user_id, subject, target_hours, period_type, is_active)
+SELECT u.id, g.subject, g.target_hours, 'WEEKLY', TRUE
+FROM (VALUES
+    ('rahul', 'Anatomy', 12.0),
+    ('rahul', 'Physiology', 10.0),
+    ('priya', 'Accountancy', 10.0),
+    ('priya', 'Business Studies', 8.0),
+    ('amit', 'Electrical Engineering', 15.0),
+    ('amit', 'Computer Programming', 12.0),
+    ('divya', 'Psychology', 8.0),
+    ('divya', 'Sociology', 6.0),
+    ('ananya', 'General Studies', 20.0),
+    ('ananya', 'Indian Polity', 15.0)
+) AS g(username, subject, target_hours)
+JOIN users u ON u.username = g.username;
+
+-- Populate the daily rollup for the sample logs inserted above
+INSERT INTO study_daily_rollup (user_id, subject, day, total_hours, sessions)
+SELECT user_id, subject, date, SUM(hours), COUNT(*)
+FROM study_logs
+GROUP BY user_id, subject, date;
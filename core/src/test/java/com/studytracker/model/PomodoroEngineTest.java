@@ -0,0 +1,219 @@
+package com.studytracker.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the engine with a fake clock; ticks are run by hand, never by the scheduler
+ */
+class PomodoroEngineTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now;
+    private ManualScheduler scheduler;
+    private RecordingListener listener;
+    private PomodoroEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000 * SECOND;
+        scheduler = new ManualScheduler();
+        listener = new RecordingListener();
+        engine = new PomodoroEngine(() -> now, scheduler, listener);
+    }
+
+    @Test
+    void startsAtTwentyFiveMinutes() {
+        assertEquals(25 * 60, engine.getSecondsRemaining());
+
+        engine.start();
+
+        assertTrue(engine.isRunning());
+        assertEquals(List.of(25 * 60), listener.seconds);
+        // The next tick is due when the display drops to 24:59
+        assertEquals(SECOND, scheduler.lastDelayNanos);
+    }
+
+    @Test
+    void pauseAndResumeKeepRemainingTime() {
+        engine.start();
+        now += 10 * SECOND + SECOND / 2;
+        engine.pause();
+        long remaining = engine.getRemainingNanos();
+        assertEquals(25 * 60 * SECOND - 10 * SECOND - SECOND / 2, remaining);
+
+        // Time spent paused does not count
+        now += 60 * SECOND;
+        assertEquals(remaining, engine.getRemainingNanos());
+        engine.start();
+        assertEquals(remaining, engine.getRemainingNanos());
+        assertEquals(25 * 60 - 10, engine.getSecondsRemaining());
+    }
+
+    @Test
+    void lateTickDoesNotLoseSeconds() {
+        engine.start();
+        // The tick due after one second runs four and a half seconds late
+        now += 4 * SECOND + SECOND / 2;
+        engine.tick();
+
+        assertEquals(25 * 60 - 4, engine.getSecondsRemaining());
+        assertEquals(List.of(25 * 60, 25 * 60 - 4), listener.seconds);
+        // Back in step with the deadline rather than a full second later
+        assertEquals(SECOND / 2, scheduler.lastDelayNanos);
+    }
+
+    @Test
+    void finishedFiresOnceAtZero() {
+        engine.start();
+        now += 25 * 60 * SECOND - 1;
+        engine.tick();
+        assertEquals(0, listener.finished.size());
+        assertEquals(1, engine.getSecondsRemaining());
+
+        now += 1;
+        engine.tick();
+        assertEquals(List.of(PomodoroEngine.Mode.POMODORO), listener.finished);
+        assertFalse(engine.isRunning());
+        assertEquals(0, engine.getSecondsRemaining());
+
+        // Stray ticks and restarts after the end do not finish it again
+        now += 5 * SECOND;
+        engine.tick();
+        engine.start();
+        engine.tick();
+        assertEquals(1, listener.finished.size());
+    }
+
+    private static class RecordingListener implements PomodoroEngine.Listener {
+        final List<Integer> seconds = new ArrayList<>();
+        final List<PomodoroEngine.Mode> finished = new ArrayList<>();
+
+        @Override
+        public void timeChanged(int secondsRemaining, boolean running) {
+            seconds.add(secondsRemaining);
+        }
+
+        @Override
+        public void finished(PomodoroEngine.Mode mode) {
+            finished.add(mode);
+        }
+    }
+
+    /**
+     * Records what the engine schedules without ever running it
+     */
+    private static class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+        long lastDelayNanos = -1;
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            lastDelayNanos = unit.toNanos(delay);
+            return new PendingTask(lastDelayNanos);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                                                      TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                         TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+    }
+
+    private static class PendingTask implements ScheduledFuture<Object> {
+        private final long delayNanos;
+        private boolean cancelled = false;
+
+        PendingTask(long delayNanos) {
+            this.delayNanos = delayNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(delayNanos, other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+
+        @Override
+        public Object get() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
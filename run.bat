@@ -2,8 +2,10 @@
 echo Study Habit Tracker - Compiling and Running
 echo ---------------------------------------
 
-set CLASSPATH=.;.\lib\mysql-connector-java-8.0.17.jar
-set SRC_DIR=src\main\java
+REM All jars in lib (MySQL connector, optional H2 driver) plus resources for the embedded schema
+set CLASSPATH=.;.\lib\*;core\src\main\resources
+set CORE_DIR=core\src\main\java
+set UI_DIR=ui\src\main\java
 set OUT_DIR=target\classes
 
 REM Clean the target directory to avoid compilation issues
@@ -12,7 +14,7 @@ rmdir /S /Q %OUT_DIR%
 mkdir %OUT_DIR%
 
 echo Compiling...
-javac -d %OUT_DIR% -cp %CLASSPATH% %SRC_DIR%\com\studytracker\util\*.java %SRC_DIR%\com\studytracker\model\*.java %SRC_DIR%\com\studytracker\ui\*.java %SRC_DIR%\com\studytracker\*.java
+javac -d %OUT_DIR% -cp %CLASSPATH% %CORE_DIR%\com\studytracker\util\*.java %CORE_DIR%\com\studytracker\model\*.java %CORE_DIR%\com\studytracker\chat\*.java %UI_DIR%\com\studytracker\util\*.java %UI_DIR%\com\studytracker\ui\*.java %UI_DIR%\com\studytracker\*.java
 
 if %ERRORLEVEL% NEQ 0 (
   echo Compilation failed!
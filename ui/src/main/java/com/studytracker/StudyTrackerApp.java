@@ -0,0 +1,77 @@
+package com.studytracker;
+
+import com.studytracker.metrics.MetricsRegistry;
+import com.studytracker.ui.EdtWatchdog;
+import com.studytracker.ui.LoginDialog;
+import com.studytracker.ui.MainWindow;
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.User;
+import com.studytracker.util.AppConfig;
+
+import javax.swing.*;
+import java.io.File;
+
+public class StudyTrackerApp {
+    private DatabaseManager dbManager;
+    private User currentUser;
+
+    public StudyTrackerApp() {
+        dbManager = new DatabaseManager();
+        MetricsRegistry.getDefault().addReportSection("Connection pool",
+            () -> String.valueOf(dbManager.getPoolStats()));
+        initialize();
+    }
+
+    private void initialize() {
+        // Show login dialog first
+        LoginDialog loginDialog = new LoginDialog(dbManager);
+        currentUser = loginDialog.showLoginDialog();
+
+        if (currentUser == null) {
+            System.exit(0);
+        }
+
+        // Launch the main application window
+        MainWindow mainWindow = new MainWindow(dbManager, currentUser);
+        mainWindow.show();
+    }
+
+    public static void main(String[] args) {
+        // Maintenance command: backfill the daily rollup table and exit
+        if (args.length > 0 && args[0].equals("--rebuild-rollup")) {
+            DatabaseManager db = new DatabaseManager();
+            int rows = db.rebuildDailyRollup();
+            db.close();
+            if (rows < 0) {
+                System.err.println("Failed to rebuild the daily rollup");
+                System.exit(1);
+            }
+            System.out.println("Rebuilt daily rollup: " + rows + " rows");
+            return;
+        }
+        
+        try {
+            // Set look and feel to system default
+            UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        // Write the data-access metrics to a local file while the app runs
+        long dumpSeconds = AppConfig.getLong("metrics.dump.intervalSeconds", 60);
+        if (dumpSeconds > 0) {
+            MetricsRegistry.getDefault().startFileDump(
+                new File(AppConfig.get("metrics.dump.file", "data/metrics.txt")), dumpSeconds * 1000);
+        }
+        
+        // Optionally watch the Event Dispatch Thread for freezes
+        if (Boolean.parseBoolean(AppConfig.get("ui.watchdog.enabled", "false"))) {
+            EdtWatchdog.install(MetricsRegistry.getDefault(),
+                                AppConfig.getLong("ui.watchdog.intervalMillis", 200),
+                                AppConfig.getLong("ui.watchdog.stallMillis", 500));
+        }
+        
+        // Start the application
+        SwingUtilities.invokeLater(StudyTrackerApp::new);
+    }
+}
\ No newline at end of file
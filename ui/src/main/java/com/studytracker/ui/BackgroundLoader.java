@@ -0,0 +1,58 @@
+package com.studytracker.ui;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Starts background loads for a panel and applies only the newest result on
+ * the Event Dispatch Thread. Starting a new load or calling cancel() makes any
+ * earlier result stale so it is dropped instead of overwriting newer data.
+ */
+public class BackgroundLoader {
+    private CompletableFuture<?> pending;
+    private int generation = 0;
+
+    /**
+     * Starts a load. Must be called on the EDT.
+     * @param task starts the background work
+     * @param onLoaded receives the result on the EDT if it is still current
+     */
+    public <T> void load(Supplier<CompletableFuture<T>> task, Consumer<T> onLoaded) {
+        cancel();
+        int requested = generation;
+        CompletableFuture<T> future = task.get();
+        pending = future;
+
+        future.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (requested != generation) {
+                return; // Superseded or cancelled
+            }
+            pending = null;
+            if (error != null) {
+                error.printStackTrace();
+            } else {
+                onLoaded.accept(result);
+            }
+        }));
+    }
+
+    /**
+     * Discards the result of any load still in flight. Must be called on the EDT.
+     */
+    public void cancel() {
+        generation++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Checks whether a load is still waiting for its result
+     */
+    public boolean isLoading() {
+        return pending != null;
+    }
+}
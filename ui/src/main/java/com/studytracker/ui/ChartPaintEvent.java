@@ -0,0 +1,32 @@
+package com.studytracker.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one paint of the statistics chart
+ */
+@Name("com.studytracker.ChartPaint")
+@Label("Chart Paint")
+@Category({"Study Tracker", "UI"})
+@Description("A paint of the statistics chart, including any redraw of its cached image")
+class ChartPaintEvent extends jdk.jfr.Event {
+    @Label("Chart Type")
+    String chartType;
+
+    @Label("Items")
+    @Description("Subjects drawn in the chart")
+    int items;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    @Label("Rendered")
+    @Description("Whether the chart was drawn again or copied from the cached image")
+    boolean rendered;
+}
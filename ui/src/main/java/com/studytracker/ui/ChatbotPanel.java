@@ -1,7 +1,13 @@
 package com.studytracker.ui;
 
+import com.studytracker.chat.ChatModelClient;
+import com.studytracker.chat.ChatClientStats;
+import com.studytracker.chat.ChatStream;
+import com.studytracker.chat.RateLimitedChatClient;
+import com.studytracker.chat.ResponseCache;
 import com.studytracker.model.DatabaseManager;
 import com.studytracker.model.User;
+import com.studytracker.model.UserContextSnapshot;
 import com.studytracker.util.UIConstants;
 import com.studytracker.util.UIUtils;
 
@@ -11,10 +17,10 @@ import javax.swing.text.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,9 +36,11 @@ public class ChatbotPanel extends JPanel {
     private JTextPane chatArea;
     private JTextField messageField;
     private JButton sendButton;
+    private JButton stopButton;
     private JButton clearButton;
     private JPanel suggestionPanel;
     private JComboBox<String> apiKeySelector;
+    private JLabel requestStatsLabel;
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
     
     // Styling
@@ -41,9 +49,38 @@ public class ChatbotPanel extends JPanel {
     private final String BOT_STYLE = "bot";
     private final String TIME_STYLE = "time";
     
+    // How often streamed reply text is written to the chat area
+    private static final int FLUSH_INTERVAL_MS = 50;
+    
+    // General questions answered without user context, so their answers can be shared
+    private static final String[] FAQ_SUGGESTIONS = {
+        "Study tips for focus",
+        "How to use Pomodoro timer?"
+    };
+    private static final String[] PERSONAL_SUGGESTIONS = {
+        "Analyze my study pattern",
+        "Recommend study goals",
+        "How many hours did I study this week?"
+    };
+    private static final Set<String> FAQ_KEYS = new HashSet<>();
+    static {
+        for (String question : FAQ_SUGGESTIONS) {
+            FAQ_KEYS.add(ResponseCache.key(question, ResponseCache.NO_CONTEXT));
+        }
+    }
+    
     // API key will be loaded from environment or configuration
     private String apiKey = "";
     
+    // Model client for the current key; reuses pooled HTTP connections
+    private ChatModelClient chatClient;
+    
+    // Reply being streamed, or null when idle; only touched on the EDT
+    private ChatStream activeStream;
+    
+    // Replies to questions already asked with the same context
+    private final ResponseCache responseCache = ResponseCache.fromConfig();
+    
     public ChatbotPanel(DatabaseManager dbManager, User currentUser) {
         this.dbManager = dbManager;
         this.currentUser = currentUser;
@@ -91,11 +128,18 @@ public class ChatbotPanel extends JPanel {
         sendButton = UIUtils.createStyledButton("Send", Color.WHITE, UIConstants.PRIMARY_COLOR);
         sendButton.addActionListener(e -> sendMessage());
         
+        stopButton = UIUtils.createStyledButton("Stop", Color.WHITE, UIConstants.DANGER_COLOR);
+        stopButton.setEnabled(false);
+        stopButton.addActionListener(e -> stopReply());
+        
         clearButton = UIUtils.createStyledButton("Clear", Color.WHITE, UIConstants.ACCENT_COLOR);
         clearButton.addActionListener(e -> clearChat());
         
         inputPanel.add(messageField, BorderLayout.CENTER);
-        inputPanel.add(sendButton, BorderLayout.EAST);
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 2, 5, 0));
+        buttonPanel.add(sendButton);
+        buttonPanel.add(stopButton);
+        inputPanel.add(buttonPanel, BorderLayout.EAST);
         
         // Settings panel
         JPanel settingsPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
@@ -105,6 +149,12 @@ public class ChatbotPanel extends JPanel {
         apiKeySelector = new JComboBox<>(new String[]{"From Environment", "From Configuration File"});
         apiKeySelector.addActionListener(e -> loadApiKey());
         
+        // Shows when requests are being throttled or retried
+        requestStatsLabel = new JLabel();
+        requestStatsLabel.setFont(new Font("Arial", Font.PLAIN, 11));
+        requestStatsLabel.setForeground(Color.GRAY);
+        
+        settingsPanel.add(requestStatsLabel);
         settingsPanel.add(apiKeyLabel);
         settingsPanel.add(apiKeySelector);
         settingsPanel.add(clearButton);
@@ -159,6 +209,20 @@ public class ChatbotPanel extends JPanel {
         } catch (Exception e) {
             appendToChatArea("System", "Error loading API key: " + e.getMessage(), SYSTEM_STYLE);
         }
+        
+        chatClient = ChatModelClient.fromConfig(apiKey);
+        updateRequestStats();
+    }
+    
+    private void updateRequestStats() {
+        if (!(chatClient instanceof RateLimitedChatClient)) {
+            requestStatsLabel.setText("");
+            return;
+        }
+        ChatClientStats stats = ((RateLimitedChatClient) chatClient).getStats();
+        requestStatsLabel.setText(String.format("API calls: %d | throttled: %d | retries: %d | shared: %d",
+            stats.getApiCalls(), stats.getThrottled(), stats.getRetries(), stats.getCoalesced()));
+        requestStatsLabel.setToolTipText(stats.toString());
     }
     
     private void addStylesToDocument(StyledDocument doc) {
@@ -217,7 +281,7 @@ public class ChatbotPanel extends JPanel {
     
     private void sendMessage() {
         String userMessage = messageField.getText().trim();
-        if (userMessage.isEmpty()) {
+        if (userMessage.isEmpty() || activeStream != null) {
             return;
         }
         
@@ -225,173 +289,177 @@ public class ChatbotPanel extends JPanel {
         appendToChatArea("You", userMessage, USER_STYLE);
         messageField.setText("");
         
-        // Disable UI while processing
+        // A cached general answer needs no database or network work, so show it now
+        String faqKey = ResponseCache.key(userMessage, ResponseCache.NO_CONTEXT);
+        boolean faq = FAQ_KEYS.contains(faqKey);
+        if (faq) {
+            String cached = responseCache.get(faqKey);
+            if (cached != null) {
+                appendToChatArea("Study Assistant Bot", cached, BOT_STYLE);
+                return;
+            }
+        }
+        
+        // Disable UI while the reply streams in; only Stop stays usable
         messageField.setEnabled(false);
         sendButton.setEnabled(false);
+        clearButton.setEnabled(false);
+        stopButton.setEnabled(true);
+        
+        // Start the bot's message empty and fill it in as text arrives
+        appendToChatArea("Study Assistant Bot", "", BOT_STYLE);
+        ReplyAppender reply = new ReplyAppender();
+        ChatStream stream = new ChatStream();
+        activeStream = stream;
         
         // Process asynchronously
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                return processUserMessage(userMessage);
-            } catch (Exception e) {
-                return "I'm having trouble connecting to my brain right now. " +
-                       "Please check your API key and internet connection. Error: " + e.getMessage();
-            }
-        }, executorService).thenAccept(response -> {
-            SwingUtilities.invokeLater(() -> {
-                appendToChatArea("Study Assistant Bot", response, BOT_STYLE);
+        CompletableFuture.runAsync(() -> processUserMessage(userMessage, faq, reply, stream), executorService)
+            .whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+                if (error != null) {
+                    reply.append("I'm having trouble connecting to my brain right now. " +
+                                 "Please check your API key and internet connection. Error: " + error.getMessage());
+                }
+                reply.finish();
+                if (stream.isCancelled()) {
+                    appendToReply(" (stopped)", SYSTEM_STYLE);
+                }
+                
+                activeStream = null;
+                updateRequestStats();
+                stopButton.setEnabled(false);
+                clearButton.setEnabled(true);
                 messageField.setEnabled(true);
                 sendButton.setEnabled(true);
                 messageField.requestFocus();
-            });
-        });
+            }));
     }
     
-    private String processUserMessage(String userMessage) {
-        if (apiKey == null || apiKey.isEmpty()) {
-            return "Please set up your Gemini API key first through environment variables " +
-                   "or a configuration file to enable the full capabilities of the chatbot.";
+    /**
+     * Aborts the reply that is streaming in, keeping the text received so far
+     */
+    private void stopReply() {
+        if (activeStream != null) {
+            activeStream.cancel();
+            stopButton.setEnabled(false);
         }
-        
+    }
+    
+    private void processUserMessage(String userMessage, boolean faq, ReplyAppender reply, ChatStream stream) {
         try {
             StringBuilder context = new StringBuilder();
+            if (!faq) {
+                // Totals, subjects, streak and goals, kept in memory as logs and goals change
+                UserContextSnapshot snapshot = dbManager.userContext().getSnapshot();
+                if (snapshot != null) {
+                    context.append(snapshot.toPromptText());
+                } else {
+                    context.append("User: ").append(currentUser.getFullName()).append("\n");
+                }
+            }
             
-            // Add user context
-            context.append("User: ").append(currentUser.getFullName()).append("\n");
-            
-            // Add study session context
-            int totalSessions = dbManager.getStudyLogCount(currentUser.getId());
-            double totalHours = dbManager.getTotalStudyHours(currentUser.getId());
-            context.append("Study statistics: ")
-                   .append(totalSessions).append(" sessions, ")
-                   .append(String.format("%.1f", totalHours)).append(" total hours\n");
+            // The same question with the same context gets the cached reply
+            String cacheKey = ResponseCache.key(userMessage,
+                faq ? ResponseCache.NO_CONTEXT : ResponseCache.fingerprint(context.toString()));
+            String cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                reply.append(cached);
+                return;
+            }
             
-            // Add goal context if available
-            context.append("Recent study goals: ");
-            // Would add code here to get the user's active goals
+            ChatModelClient client = chatClient;
+            if (client == null) {
+                reply.append("Please set up your Gemini API key first through environment variables " +
+                             "or a configuration file to enable the full capabilities of the chatbot.");
+                return;
+            }
             
             // Create the prompt with context
             String prompt = "As a study assistant chatbot in a Study Habit Tracker application, " +
-                            "I need to respond to this user query. Here's the context about the user:\n\n" +
-                            context.toString() + "\n\n" +
+                            "I need to respond to this user query. " +
+                            (faq ? "" : "Here's the context about the user:\n\n" + context.toString()) + "\n\n" +
                             "User question: " + userMessage + "\n\n" +
                             "Please provide a helpful, concise response focused on improving study habits, " +
                             "answering questions about the application features, or providing study tips. " +
                             "Keep your response under 200 words.";
             
-            return callGeminiAPI(prompt);
+            String response = streamChatModel(client, prompt, reply, stream);
+            if (response != null && !response.isEmpty() && !stream.isCancelled()) {
+                responseCache.put(cacheKey, response);
+                responseCache.save();
+            }
         } catch (Exception e) {
             e.printStackTrace();
-            return "I encountered an error processing your request: " + e.getMessage();
+            reply.append("I encountered an error processing your request: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Streams the model's reply into the chat area
+     * @return the reply text, or null if the request failed
+     */
+    private String streamChatModel(ChatModelClient client, String prompt, ReplyAppender reply, ChatStream stream) {
+        try {
+            return client.stream(prompt, reply::append, stream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reply.append("The request was interrupted.");
+        } catch (IOException e) {
+            e.printStackTrace();
+            reply.append("Error connecting to Gemini API: " + e.getMessage());
         }
+        return null;
     }
     
-    private String callGeminiAPI(String prompt) {
+    private void appendToReply(String text, String style) {
+        StyledDocument doc = chatArea.getStyledDocument();
         try {
-            // URL remains the same
-            URL url = new URL("https://generativelanguage.googleapis.com/v1/models/gemini-1.5-flash:generateContent?key=" + apiKey);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json");
-            connection.setDoOutput(true);
-            
-            // Create request body
-            String jsonInput = "{\"contents\":[{\"parts\":[{\"text\":\"" + 
-                               prompt.replace("\"", "\\\"").replace("\n", "\\n") + 
-                               "\"}]}]}";
-            
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = jsonInput.getBytes("utf-8");
-                os.write(input, 0, input.length);
+            doc.insertString(doc.getLength(), text, doc.getStyle(style));
+            chatArea.setCaretPosition(doc.getLength());
+        } catch (BadLocationException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * Buffers streamed reply text from the worker thread and writes it to the
+     * chat area on a timer, so the document is changed and laid out a few
+     * times a second rather than once per token
+     */
+    private class ReplyAppender {
+        private final StringBuilder pending = new StringBuilder();
+        private final Timer flushTimer = new Timer(FLUSH_INTERVAL_MS, e -> flush());
+        
+        ReplyAppender() {
+            flushTimer.start();
+        }
+        
+        /**
+         * Queues text for the next flush. Safe to call from any thread.
+         */
+        void append(String text) {
+            synchronized (pending) {
+                pending.append(text);
             }
-            
-            // Get response
-            int responseCode = connection.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(
-                        connection.getInputStream(), "utf-8"))) {
-                    StringBuilder response = new StringBuilder();
-                    String responseLine;
-                    while ((responseLine = br.readLine()) != null) {
-                        response.append(responseLine.trim());
-                    }
-                    
-                    // Improved JSON response parsing
-                    String jsonResponse = response.toString();
-                    System.out.println("Raw API response: " + jsonResponse); // Debug log
-                    
-                    // Check for different JSON structure patterns
-                    if (jsonResponse.contains("\"text\"")) {
-                        // Extract text from response using more reliable method
-                        int candidatesIdx = jsonResponse.indexOf("\"candidates\"");
-                        if (candidatesIdx != -1) {
-                            int partsIdx = jsonResponse.indexOf("\"parts\"", candidatesIdx);
-                            if (partsIdx != -1) {
-                                int textIdx = jsonResponse.indexOf("\"text\"", partsIdx);
-                                if (textIdx != -1) {
-                                    int valueStartIdx = jsonResponse.indexOf(":", textIdx) + 1;
-                                    // Find the opening quote
-                                    int contentStartIdx = jsonResponse.indexOf("\"", valueStartIdx) + 1;
-                                    // Find the closing quote (accounting for escaped quotes)
-                                    int contentEndIdx = contentStartIdx;
-                                    boolean foundEnd = false;
-                                    while (!foundEnd && contentEndIdx < jsonResponse.length()) {
-                                        contentEndIdx = jsonResponse.indexOf("\"", contentEndIdx);
-                                        // Check if this quote is escaped
-                                        if (jsonResponse.charAt(contentEndIdx - 1) == '\\') {
-                                            contentEndIdx++; // Move past this quote and continue
-                                        } else {
-                                            foundEnd = true; // Found the unescaped closing quote
-                                        }
-                                    }
-                                    
-                                    if (foundEnd) {
-                                        String extractedText = jsonResponse.substring(contentStartIdx, contentEndIdx)
-                                            .replace("\\n", "\n")
-                                            .replace("\\\"", "\"")
-                                            .replace("\\\\", "\\");
-                                        return extractedText;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                    
-                    // Fallback approach if the structure isn't as expected
-                    if (jsonResponse.contains("\"text\":")) {
-                        String[] parts = jsonResponse.split("\"text\":");
-                        if (parts.length >= 2) {
-                            String textPart = parts[1].trim();
-                            if (textPart.startsWith("\"")) {
-                                int endQuote = textPart.indexOf("\"", 1);
-                                if (endQuote > 1) {
-                                    return textPart.substring(1, endQuote)
-                                        .replace("\\n", "\n")
-                                        .replace("\\\"", "\"");
-                                }
-                            }
-                        }
-                    }
-                    
-                    // If we still couldn't extract the text properly
-                    return "I received a response but couldn't parse it properly. This may be due " +
-                           "to a change in the API response format. Please try asking a different question.";
-                }
-            } else {
-                // Handle error response (unchanged)
-                try (BufferedReader br = new BufferedReader(new InputStreamReader(
-                        connection.getErrorStream(), "utf-8"))) {
-                    StringBuilder response = new StringBuilder();
-                    String responseLine;
-                    while ((responseLine = br.readLine()) != null) {
-                        response.append(responseLine.trim());
-                    }
-                    return "API error: " + response.toString();
+        }
+        
+        private void flush() {
+            String text;
+            synchronized (pending) {
+                if (pending.length() == 0) {
+                    return;
                 }
+                text = pending.toString();
+                pending.setLength(0);
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "Error connecting to Gemini API: " + e.getMessage();
+            appendToReply(text, BOT_STYLE);
+        }
+        
+        /**
+         * Writes any remaining text and stops the timer; called on the EDT
+         */
+        void finish() {
+            flushTimer.stop();
+            flush();
         }
     }
     
@@ -411,17 +479,11 @@ public class ChatbotPanel extends JPanel {
     private void displaySuggestedQuestions() {
         suggestionPanel.removeAll();
         
-        String[] suggestions = {
-            "Study tips for focus",
-            "How to use Pomodoro timer?",
-            "Analyze my study pattern",
-            "Recommend study goals",
-            "How many hours did I study this week?"
-        };
-        
-        for (String suggestion : suggestions) {
-            JButton chip = createSuggestionChip(suggestion);
-            suggestionPanel.add(chip);
+        for (String suggestion : FAQ_SUGGESTIONS) {
+            suggestionPanel.add(createSuggestionChip(suggestion));
+        }
+        for (String suggestion : PERSONAL_SUGGESTIONS) {
+            suggestionPanel.add(createSuggestionChip(suggestion));
         }
         
         suggestionPanel.revalidate();
@@ -446,6 +508,9 @@ public class ChatbotPanel extends JPanel {
      * Cleanup resources when panel is closed
      */
     public void cleanup() {
+        if (activeStream != null) {
+            activeStream.cancel();
+        }
         executorService.shutdown();
     }
     
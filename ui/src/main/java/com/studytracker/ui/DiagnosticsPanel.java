@@ -0,0 +1,169 @@
+package com.studytracker.ui;
+
+import com.studytracker.metrics.MetricsRegistry;
+import com.studytracker.metrics.SlowQuery;
+import com.studytracker.metrics.TimerStats;
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.PoolStats;
+import com.studytracker.util.AppConfig;
+import com.studytracker.util.UIConstants;
+import com.studytracker.util.UIUtils;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Panel showing how long each data-access operation and UI event takes,
+ * recent slow queries and UI stalls, and the connection pool, refreshed
+ * every few seconds while shown
+ */
+public class DiagnosticsPanel extends JPanel {
+    private static final int REFRESH_MILLIS = 2000;
+    private static final String[] COLUMNS = {
+        "Operation", "Count", "Mean ms", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Rows", "Errors"
+    };
+
+    private final DatabaseManager dbManager;
+    private final MetricsRegistry registry = MetricsRegistry.getDefault();
+
+    private DefaultTableModel timerTableModel;
+    private JLabel poolLabel;
+    private JTextArea slowQueryArea;
+    private final Timer refreshTimer = new Timer(REFRESH_MILLIS, e -> updateView());
+
+    public DiagnosticsPanel(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+
+        setLayout(new BorderLayout(10, 10));
+        setBorder(BorderFactory.createEmptyBorder(
+            UIConstants.PADDING_MEDIUM,
+            UIConstants.PADDING_MEDIUM,
+            UIConstants.PADDING_MEDIUM,
+            UIConstants.PADDING_MEDIUM
+        ));
+        setBackground(Color.WHITE);
+
+        setupUI();
+    }
+
+    private void setupUI() {
+        poolLabel = new JLabel(" ");
+        poolLabel.setFont(new Font("Arial", Font.PLAIN, UIConstants.FONT_SMALL));
+
+        JButton saveButton = UIUtils.createStyledButton("Save Report", Color.WHITE, UIConstants.PRIMARY_COLOR);
+        saveButton.addActionListener(e -> saveReport());
+
+        JPanel topPanel = new JPanel(new BorderLayout(10, 0));
+        topPanel.setBackground(Color.WHITE);
+        topPanel.add(poolLabel, BorderLayout.CENTER);
+        topPanel.add(saveButton, BorderLayout.EAST);
+        add(topPanel, BorderLayout.NORTH);
+
+        timerTableModel = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return column == 0 ? String.class : column == 1 || column >= 7 ? Long.class : Double.class;
+            }
+        };
+        JTable timerTable = new JTable(timerTableModel);
+        timerTable.setRowHeight(UIConstants.TABLE_ROW_HEIGHT);
+        timerTable.setAutoCreateRowSorter(true);
+        timerTable.setDefaultRenderer(Double.class, new DefaultTableCellRenderer() {
+            @Override
+            protected void setValue(Object value) {
+                setHorizontalAlignment(RIGHT);
+                setText(value == null ? "" : String.format("%.2f", (Double) value));
+            }
+        });
+        timerTable.getColumnModel().getColumn(0).setPreferredWidth(200);
+        JScrollPane timerScroll = new JScrollPane(timerTable);
+        timerScroll.setBorder(BorderFactory.createTitledBorder("Data access timings"));
+
+        slowQueryArea = new JTextArea();
+        slowQueryArea.setEditable(false);
+        slowQueryArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, UIConstants.FONT_SMALL));
+        JScrollPane slowScroll = new JScrollPane(slowQueryArea);
+        slowScroll.setBorder(BorderFactory.createTitledBorder(
+            "Errors, UI stalls and slow queries (over " + AppConfig.getLong("db.slowQueryMillis", 250) + " ms)"));
+
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, timerScroll, slowScroll);
+        splitPane.setResizeWeight(0.65);
+        splitPane.setContinuousLayout(true);
+        add(splitPane, BorderLayout.CENTER);
+    }
+
+    /**
+     * Shows the current metrics and keeps them updated until cancelRefresh is called
+     */
+    public void refreshData() {
+        updateView();
+        refreshTimer.start();
+    }
+
+    /**
+     * Stops updating, e.g. when the user switches to another tab
+     */
+    public void cancelRefresh() {
+        refreshTimer.stop();
+    }
+
+    private void updateView() {
+        List<TimerStats> timers = registry.getTimerStats();
+        timerTableModel.setRowCount(0);
+        for (TimerStats stats : timers) {
+            timerTableModel.addRow(new Object[] {
+                stats.getName(), stats.getCount(), stats.getMeanMillis(), stats.getP50Millis(),
+                stats.getP90Millis(), stats.getP99Millis(), stats.getMaxMillis(), stats.getRows(), stats.getErrors()
+            });
+        }
+
+        PoolStats pool = dbManager.getPoolStats();
+        poolLabel.setText(pool == null ? "Connection pool: not available"
+            : String.format("Connection pool: %d active, %d idle of %d, %d waiting, avg wait %.2f ms, " +
+                            "statement cache hit ratio %.0f%%",
+                            pool.getActive(), pool.getIdle(), pool.getMaxSize(), pool.getWaiting(),
+                            pool.getAverageWaitMillis(), pool.getStatementCacheHitRatio() * 100));
+
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        StringBuilder text = new StringBuilder();
+        for (TimerStats stats : timers) {
+            if (stats.getLastError() != null) {
+                text.append("Last error in ").append(stats.getName()).append(": ")
+                    .append(stats.getLastError()).append('\n');
+            }
+        }
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        if (watchdog != null) {
+            for (String stall : watchdog.getRecentStalls()) {
+                text.append(stall).append('\n');
+            }
+        }
+        for (SlowQuery query : registry.getSlowQueries()) {
+            text.append(timeFormat.format(new Date(query.getTimestamp()))).append("  ").append(query).append('\n');
+        }
+        if (!text.toString().equals(slowQueryArea.getText())) {
+            slowQueryArea.setText(text.toString());
+            slowQueryArea.setCaretPosition(0);
+        }
+    }
+
+    private void saveReport() {
+        File file = new File(AppConfig.get("metrics.dump.file", "data/metrics.txt"));
+        if (registry.dumpTo(file)) {
+            UIUtils.showInfo(this, "Metrics report saved to " + file.getAbsolutePath());
+        } else {
+            UIUtils.showError(this, "Could not save the metrics report to " + file.getAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.studytracker.ui;
+
+import com.studytracker.metrics.MetricsRegistry;
+import com.studytracker.metrics.OperationTimer;
+import com.studytracker.util.SharedScheduler;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Watches the Event Dispatch Thread for freezes. A heartbeat is posted to
+ * the event queue at a fixed interval and the time until it runs is
+ * recorded as the EDT latency. If a heartbeat waits longer than the stall
+ * threshold, the EDT's stack is captured while it is still stuck, so the
+ * report shows what the UI was doing. Every event is also timed against the
+ * tab that was showing, to find which tab's handlers are slow.
+ * <p>
+ * The cost is two clock reads per event and one heartbeat per interval.
+ */
+public class EdtWatchdog {
+    // Stalls kept for the diagnostics tab and the metrics report
+    private static final int MAX_STALLS = 20;
+    // Frames of the EDT stack kept for each stall
+    private static final int MAX_FRAMES = 40;
+
+    private static EdtWatchdog instance;
+
+    private final MetricsRegistry registry;
+    private final long intervalMillis;
+    private final long stallNanos;
+    private final OperationTimer latencyTimer;
+    private final OperationTimer stallTimer;
+
+    // When the heartbeat in flight was posted, or 0 if none is waiting
+    private final AtomicLong heartbeatPosted = new AtomicLong();
+    private final Runnable heartbeat = this::heartbeat;
+    private volatile Thread edt;
+    // Only used by the scheduler thread
+    private boolean stallReported = false;
+
+    // Names the part of the UI showing; called on the EDT
+    private volatile Supplier<String> context = () -> "none";
+    private volatile String currentContext = "none";
+    private final ArrayDeque<String> stalls = new ArrayDeque<>();
+
+    private EdtWatchdog(MetricsRegistry registry, long intervalMillis, long stallMillis) {
+        this.registry = registry;
+        this.intervalMillis = intervalMillis;
+        this.stallNanos = stallMillis * 1_000_000;
+        this.latencyTimer = registry.timer("ui.edt.latency");
+        this.stallTimer = registry.timer("ui.edt.stall");
+    }
+
+    /**
+     * Starts the watchdog for the application, once
+     * @param intervalMillis how often a heartbeat is posted
+     * @param stallMillis heartbeats waiting this long are reported as stalls
+     */
+    public static synchronized EdtWatchdog install(MetricsRegistry registry, long intervalMillis, long stallMillis) {
+        if (instance == null) {
+            instance = new EdtWatchdog(registry, intervalMillis, stallMillis);
+            instance.start();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the running watchdog, or null if it was not turned on
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        return instance;
+    }
+
+    private void start() {
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimedEventQueue());
+        registry.addReportSection("EDT stalls", () -> String.join("\n", getRecentStalls()));
+        SharedScheduler.get().scheduleAtFixedRate(this::check, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets what names the part of the UI showing, such as the selected tab.
+     * Events are timed under this name. Pass null when there is none.
+     */
+    public void setContext(Supplier<String> context) {
+        this.context = context != null ? context : () -> "none";
+    }
+
+    /**
+     * Gets the most recent stalls with the EDT stack, newest first
+     */
+    public List<String> getRecentStalls() {
+        List<String> recent;
+        synchronized (stalls) {
+            recent = new ArrayList<>(stalls);
+        }
+        Collections.reverse(recent);
+        return recent;
+    }
+
+    /**
+     * Runs on the shared scheduler: posts the next heartbeat, or reports a
+     * stall if the last one has waited too long
+     */
+    private void check() {
+        long now = System.nanoTime();
+        long posted = heartbeatPosted.get();
+        if (posted == 0) {
+            stallReported = false;
+            heartbeatPosted.set(now);
+            EventQueue.invokeLater(heartbeat);
+        } else if (!stallReported && now - posted >= stallNanos) {
+            stallReported = true;
+            reportStall(now - posted);
+        }
+    }
+
+    private void heartbeat() {
+        edt = Thread.currentThread();
+        long latency = System.nanoTime() - heartbeatPosted.getAndSet(0);
+        latencyTimer.record(latency, 0, null);
+        if (latency >= stallNanos) {
+            stallTimer.record(latency, 0, null);
+        }
+    }
+
+    private void reportStall(long stalledNanos) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%s EDT stalled for %d ms in %s", Instant.now(),
+                                    stalledNanos / 1_000_000, currentContext));
+        Thread thread = edt;
+        if (thread != null) {
+            StackTraceElement[] stack = thread.getStackTrace();
+            for (int i = 0; i < Math.min(stack.length, MAX_FRAMES); i++) {
+                report.append("\n    at ").append(stack[i]);
+            }
+            if (stack.length > MAX_FRAMES) {
+                report.append("\n    ... ").append(stack.length - MAX_FRAMES).append(" more");
+            }
+        }
+        String text = report.toString();
+        synchronized (stalls) {
+            if (stalls.size() == MAX_STALLS) {
+                stalls.removeFirst();
+            }
+            stalls.addLast(text);
+        }
+        System.err.println(text);
+    }
+
+    /**
+     * Times each event against the part of the UI showing when it arrived
+     */
+    private class TimedEventQueue extends EventQueue {
+        private final Map<String, OperationTimer> timers = new HashMap<>();
+        // Set when an event ran inside another, e.g. while a modal dialog was open
+        private boolean nested = false;
+        private int depth = 0;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            String name = context.get();
+            if (name == null) {
+                name = "none";
+            }
+            currentContext = name;
+            boolean outerNested = nested;
+            nested = false;
+            depth++;
+            long started = System.nanoTime();
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                depth--;
+                // An event that ran others inside it would count their time too
+                if (!nested) {
+                    timers.computeIfAbsent(name, tab -> registry.timer("ui.event." + tab)).record(elapsed, 0, null);
+                }
+                nested = outerNested || depth > 0;
+            }
+        }
+    }
+}
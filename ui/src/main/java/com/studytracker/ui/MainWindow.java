@@ -26,6 +26,7 @@ public class MainWindow {
     private StudyCalendarPanel calendarPanel;
     private ChatbotPanel chatbotPanel;
     private MotivationQuotePanel motivationPanel;
+    private DiagnosticsPanel diagnosticsPanel;
     
     public MainWindow(DatabaseManager dbManager, User currentUser) {
         this.dbManager = dbManager;
@@ -115,7 +116,7 @@ public class MainWindow {
         tabbedPane.addTab("Statistics", statsPanel);
 
         // Create Pomodoro Timer tab
-        pomodoroPanel = new PomodoroPanel();
+        pomodoroPanel = new PomodoroPanel(dbManager, currentUser);
         tabbedPane.addTab("Pomodoro Timer", pomodoroPanel);
 
         // Create Study Calendar tab
@@ -132,9 +133,27 @@ public class MainWindow {
         chatbotPanel = new ChatbotPanel(dbManager, currentUser);
         tabbedPane.addTab("Study Assistant", chatbotPanel);
         
-        // Add change listener to refresh data when switching tabs
+        // Create Diagnostics tab
+        diagnosticsPanel = new DiagnosticsPanel(dbManager);
+        tabbedPane.addTab("Diagnostics", diagnosticsPanel);
+        
+        // Time UI events against the tab they happen in
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        if (watchdog != null) {
+            watchdog.setContext(() -> {
+                int index = tabbedPane.getSelectedIndex();
+                return index >= 0 ? tabbedPane.getTitleAt(index) : "none";
+            });
+        }
+        
+        // Add change listener to refresh data when switching tabs.
+        // Refreshes load in the background; loads for tabs the user has
+        // already left are dropped so quick switching never applies stale data.
         tabbedPane.addChangeListener(e -> {
             int selectedIndex = tabbedPane.getSelectedIndex();
+            TabRefreshEvent event = new TabRefreshEvent();
+            event.begin();
+            cancelPendingRefreshes();
             if (selectedIndex == 0) {
                 logPanel.refreshData();
             } else if (selectedIndex == 1) {
@@ -147,10 +166,26 @@ public class MainWindow {
                 motivationPanel.refreshData();
             } else if (selectedIndex == 6) {
                 chatbotPanel.refreshData();
+            } else if (selectedIndex == 7) {
+                diagnosticsPanel.refreshData();
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.index = selectedIndex;
+                event.tab = selectedIndex >= 0 ? tabbedPane.getTitleAt(selectedIndex) : null;
+                event.commit();
             }
         });
     }
     
+    private void cancelPendingRefreshes() {
+        logPanel.cancelRefresh();
+        goalsPanel.cancelRefresh();
+        statsPanel.cancelRefresh();
+        calendarPanel.cancelRefresh();
+        diagnosticsPanel.cancelRefresh();
+    }
+    
     private JPanel createStatusBar() {
         JPanel statusBar = new JPanel(new BorderLayout());
         statusBar.setBackground(UIConstants.PRIMARY_COLOR);
@@ -178,6 +213,12 @@ public class MainWindow {
         if (motivationPanel != null) {
             motivationPanel.cleanup();
         }
+        if (diagnosticsPanel != null) {
+            diagnosticsPanel.cancelRefresh();
+        }
+        if (EdtWatchdog.getInstance() != null) {
+            EdtWatchdog.getInstance().setContext(null);
+        }
         dbManager.close();
         
         // Start a new instance of the application
@@ -0,0 +1,240 @@
+package com.studytracker.ui;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.PomodoroEngine;
+import com.studytracker.model.StudyLog;
+import com.studytracker.model.User;
+
+import javax.swing.*;
+import java.awt.*;
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Shows a PomodoroEngine. The engine keeps time; this panel only redraws
+ * when the displayed second changes. Finished focus sessions are logged for
+ * the chosen subject through the write-behind queue.
+ */
+public class PomodoroPanel extends JPanel implements PomodoroEngine.Listener {
+    private static final String DEFAULT_SUBJECT = "General";
+
+    private final PomodoroEngine engine = new PomodoroEngine(this);
+    private final DatabaseManager dbManager;
+    private final User currentUser;
+    private final BackgroundLoader loader = new BackgroundLoader();
+
+    private JLabel timerLabel;
+    private JLabel modeLabel;
+    private JButton startButton;
+    private JButton resetButton;
+    private JComboBox<String> modeSelector;
+    private JComboBox<String> subjectSelector;
+    private JLabel statusLabel;
+
+    public PomodoroPanel(DatabaseManager dbManager, User currentUser) {
+        this.dbManager = dbManager;
+        this.currentUser = currentUser;
+        setLayout(new BorderLayout());
+        setBackground(new Color(245, 245, 245));
+
+        // Mode label at top
+        modeLabel = new JLabel("Pomodoro Timer", SwingConstants.CENTER);
+        modeLabel.setFont(new Font("Segoe UI", Font.BOLD, 28));
+        modeLabel.setForeground(new Color(50, 50, 50));
+        modeLabel.setBorder(BorderFactory.createEmptyBorder(20, 10, 10, 10));
+        add(modeLabel, BorderLayout.NORTH);
+
+        // Timer label at center
+        timerLabel = new JLabel("25:00", SwingConstants.CENTER);
+        timerLabel.setFont(new Font("Consolas", Font.BOLD, 60));
+        timerLabel.setForeground(new Color(40, 40, 40));
+        timerLabel.setBorder(BorderFactory.createEmptyBorder(20, 10, 20, 10));
+        add(timerLabel, BorderLayout.CENTER);
+
+        // Controls panel
+        JPanel controls = new JPanel(new GridBagLayout());
+        controls.setBackground(new Color(245, 245, 245));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(10, 10, 10, 10);
+
+        modeSelector = new JComboBox<>(new String[]{"Pomodoro", "Short Break", "Long Break"});
+        modeSelector.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+
+        // Subject the focus session is logged under; any name can be typed
+        subjectSelector = new JComboBox<>(new String[]{DEFAULT_SUBJECT});
+        subjectSelector.setEditable(true);
+        subjectSelector.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        subjectSelector.setToolTipText("Subject to log finished focus sessions under");
+
+        startButton = new JButton("Start");
+        styleButton(startButton, new Color(76, 175, 80));
+
+        resetButton = new JButton("Reset");
+        styleButton(resetButton, new Color(244, 67, 54));
+
+        gbc.gridx = 0;
+        controls.add(modeSelector, gbc);
+        gbc.gridx = 1;
+        controls.add(subjectSelector, gbc);
+        gbc.gridx = 2;
+        controls.add(startButton, gbc);
+        gbc.gridx = 3;
+        controls.add(resetButton, gbc);
+
+        statusLabel = new JLabel(" ", SwingConstants.CENTER);
+        statusLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        statusLabel.setForeground(new Color(90, 90, 90));
+        gbc.gridx = 0;
+        gbc.gridy = 1;
+        gbc.gridwidth = 4;
+        gbc.insets = new Insets(0, 10, 10, 10);
+        controls.add(statusLabel, gbc);
+
+        add(controls, BorderLayout.SOUTH);
+
+        setupListeners();
+        setMode("Pomodoro");
+        loadSubjects();
+
+        // Save sessions journaled while the database was unavailable
+        dbManager.writeBehind().flushAsync();
+    }
+
+    /**
+     * Fills the subject list from the user's logged subjects, most studied first
+     */
+    private void loadSubjects() {
+        loader.load(() -> dbManager.async().supply(() -> dbManager.userContext().getSnapshot()), snapshot -> {
+            if (snapshot == null) {
+                return;
+            }
+            Object typed = subjectSelector.getEditor().getItem();
+            DefaultComboBoxModel<String> model = new DefaultComboBoxModel<>();
+            model.addElement(DEFAULT_SUBJECT);
+            for (int i = 0; i < snapshot.getSubjectCount(); i++) {
+                if (!DEFAULT_SUBJECT.equals(snapshot.getSubject(i))) {
+                    model.addElement(snapshot.getSubject(i));
+                }
+            }
+            subjectSelector.setModel(model);
+            subjectSelector.setSelectedItem(typed);
+        });
+    }
+
+    private String getSelectedSubject() {
+        Object item = subjectSelector.getEditor().getItem();
+        String subject = item == null ? "" : item.toString().trim();
+        if (subject.length() > StudyLog.MAX_SUBJECT_LENGTH) {
+            // The database would reject the log, so keep what fits
+            subject = subject.substring(0, StudyLog.MAX_SUBJECT_LENGTH).trim();
+        }
+        return subject.isEmpty() ? DEFAULT_SUBJECT : subject;
+    }
+
+    /**
+     * Queues a finished focus session; the write happens in the background
+     */
+    private void logSession(PomodoroEngine.Mode mode) {
+        String subject = getSelectedSubject();
+        // Hours are stored with two decimals, so a 25 minute session is 0.42 hours
+        double hours = Math.round(mode.getMinutes() / 60.0 * 100) / 100.0;
+        dbManager.writeBehind().submit(new StudyLog(currentUser.getId(), subject, hours,
+            Date.valueOf(LocalDate.now()), "Pomodoro session (" + mode.getMinutes() + " min)"));
+        statusLabel.setText(String.format("Logged %d minutes of %s", mode.getMinutes(), subject));
+    }
+
+    private void styleButton(JButton button, Color color) {
+        button.setFont(new Font("Segoe UI", Font.BOLD, 14));
+        button.setForeground(Color.WHITE);
+        button.setBackground(color);
+        button.setFocusPainted(false);
+        button.setBorder(BorderFactory.createEmptyBorder(8, 16, 8, 16));
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+    }
+
+    private void setupListeners() {
+        startButton.addActionListener(e -> toggleTimer());
+        resetButton.addActionListener(e -> resetTimer());
+
+        modeSelector.addActionListener(e -> {
+            resetTimer();
+            setMode((String) modeSelector.getSelectedItem());
+        });
+    }
+
+    private void toggleTimer() {
+        if (engine.isRunning()) {
+            engine.pause();
+        } else {
+            engine.start();
+        }
+    }
+
+    private void resetTimer() {
+        setMode((String) modeSelector.getSelectedItem());
+    }
+
+    private void setMode(String mode) {
+        switch (mode) {
+            case "Pomodoro" -> {
+                engine.reset(PomodoroEngine.Mode.POMODORO);
+                setBackground(new Color(255, 236, 227));
+                modeLabel.setText("Pomodoro Focus Session");
+            }
+            case "Short Break" -> {
+                engine.reset(PomodoroEngine.Mode.SHORT_BREAK);
+                setBackground(new Color(227, 255, 240));
+                modeLabel.setText("Take a Short Break");
+            }
+            case "Long Break" -> {
+                engine.reset(PomodoroEngine.Mode.LONG_BREAK);
+                setBackground(new Color(227, 232, 255));
+                modeLabel.setText("Take a Long Break");
+            }
+        }
+    }
+
+    private void updateTimerLabel(int timeRemaining) {
+        int minutes = timeRemaining / 60;
+        int seconds = timeRemaining % 60;
+        timerLabel.setText(String.format("%02d:%02d", minutes, seconds));
+        // Ask the engine, as updates from its thread may arrive after a later pause
+        startButton.setText(engine.isRunning() ? "Pause" : "Start");
+    }
+
+    @Override
+    public void timeChanged(int secondsRemaining, boolean running) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            updateTimerLabel(secondsRemaining);
+        } else {
+            SwingUtilities.invokeLater(() -> updateTimerLabel(secondsRemaining));
+        }
+    }
+
+    @Override
+    public void finished(PomodoroEngine.Mode mode) {
+        SwingUtilities.invokeLater(() -> {
+            if (mode == PomodoroEngine.Mode.POMODORO) {
+                logSession(mode);
+            }
+            Toolkit.getDefaultToolkit().beep(); // Alert when time is up
+            JOptionPane.showMessageDialog(PomodoroPanel.this, "Time's up!");
+            resetTimer();
+        });
+    }
+
+    // Optional: Make this accessible from other classes
+    public void refreshData() {
+        resetTimer();
+    }
+
+    public boolean isTimerRunning() {
+        return engine.isRunning();
+    }
+
+    public void startTimer() {
+        if (!engine.isRunning()) {
+            toggleTimer();
+        }
+    }
+}
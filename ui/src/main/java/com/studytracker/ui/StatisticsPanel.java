@@ -0,0 +1,504 @@
+package com.studytracker.ui;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.StudySummary;
+import com.studytracker.model.User;
+import com.studytracker.util.UIConstants;
+import com.studytracker.util.UIUtils;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.image.BufferedImage;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Panel for visualizing study statistics
+ */
+public class StatisticsPanel extends JPanel {
+    private final DatabaseManager dbManager;
+    private final User currentUser;
+    
+    // UI components
+    private JPanel chartPanel;
+    private JComboBox<String> timeRangeCombo;
+    private JComboBox<String> chartTypeCombo;
+    private JPanel summaryPanel;
+    private JSplitPane statsSplitPane;
+    
+    // Animation variables
+    private javax.swing.Timer animationTimer;
+    private double animationProgress = 0.0;
+    private boolean isAnimating = false;
+    private boolean animateNextLoad = false;
+    
+    // Loads statistics off the EDT
+    private final BackgroundLoader loader = new BackgroundLoader();
+    
+    public StatisticsPanel(DatabaseManager dbManager, User currentUser) {
+        this.dbManager = dbManager;
+        this.currentUser = currentUser;
+        
+        setLayout(new BorderLayout(10, 10));
+        setBorder(BorderFactory.createEmptyBorder(
+            UIConstants.PADDING_MEDIUM, 
+            UIConstants.PADDING_MEDIUM, 
+            UIConstants.PADDING_MEDIUM, 
+            UIConstants.PADDING_MEDIUM
+        ));
+        setBackground(Color.WHITE);
+        
+        setupUI();
+        setupAnimation();
+        refreshData();
+        
+        // Add component listener to adjust split pane divider location when panel resizes
+        addComponentListener(new java.awt.event.ComponentAdapter() {
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                // Adjust divider location proportionally when the panel is resized
+                SwingUtilities.invokeLater(() -> {
+                    statsSplitPane.setDividerLocation(0.65);
+                });
+            }
+        });
+    }
+    
+    private void setupUI() {
+        // Controls panel
+        JPanel controlsPanel = createControlsPanel();
+        
+        // Chart panel
+        chartPanel = new JPanel(new BorderLayout());
+        chartPanel.setBorder(BorderFactory.createTitledBorder("Study Time Distribution"));
+        chartPanel.setBackground(Color.WHITE);
+        
+        // Summary panel
+        summaryPanel = new JPanel(new BorderLayout());
+        summaryPanel.setBorder(BorderFactory.createTitledBorder("Study Summary"));
+        summaryPanel.setBackground(Color.WHITE);
+        
+        JPanel summaryContent = new JPanel(new GridLayout(2, 2, 20, 20));
+        summaryContent.setBackground(Color.WHITE);
+        summaryPanel.add(summaryContent, BorderLayout.CENTER);
+        
+        // Add panels to stats tab
+        JPanel upperPanel = new JPanel(new BorderLayout(5, 5));
+        upperPanel.setBackground(Color.WHITE);
+        upperPanel.add(controlsPanel, BorderLayout.NORTH);
+        upperPanel.add(chartPanel, BorderLayout.CENTER);
+        
+        // Make chart panel expand to fill available space
+        chartPanel.setPreferredSize(new Dimension(600, 400));
+        
+        statsSplitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, upperPanel, summaryPanel);
+        statsSplitPane.setResizeWeight(0.65); // Give 65% of space to chart panel
+        statsSplitPane.setOneTouchExpandable(true);
+        statsSplitPane.setContinuousLayout(true);
+        
+        // Add scrollable panel for better handling of small window sizes
+        JScrollPane scrollPane = new JScrollPane(statsSplitPane);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+        
+        add(scrollPane, BorderLayout.CENTER);
+    }
+    
+    private void setupAnimation() {
+        // Create animation timer
+        animationTimer = new javax.swing.Timer(16, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (animationProgress < 1.0) {
+                    animationProgress += 0.05;
+                    chartPanel.repaint();
+                } else {
+                    animationProgress = 1.0;
+                    isAnimating = false;
+                    animationTimer.stop();
+                }
+            }
+        });
+    }
+    
+    private JPanel createControlsPanel() {
+        JPanel controlsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 20, 10));
+        controlsPanel.setBackground(Color.WHITE);
+        controlsPanel.setBorder(BorderFactory.createTitledBorder("Statistics Options"));
+        
+        // Time range selector
+        JLabel timeRangeLabel = new JLabel("Time Range:");
+        timeRangeCombo = new JComboBox<>(new String[]{
+            "This Week", "Last Week", "This Month", "Last Month", "Last 3 Months", "This Year"
+        });
+        timeRangeCombo.setPreferredSize(new Dimension(130, UIConstants.INPUT_HEIGHT));
+        
+        // Chart type selector
+        JLabel chartTypeLabel = new JLabel("Chart Type:");
+        chartTypeCombo = new JComboBox<>(new String[]{
+            "Bar Chart", "Pie Chart", "Line Chart"
+        });
+        chartTypeCombo.setPreferredSize(new Dimension(130, UIConstants.INPUT_HEIGHT));
+        
+        // Update button
+        JButton updateButton = UIUtils.createStyledButton("Update", Color.WHITE, UIConstants.ACCENT_COLOR);
+        updateButton.addActionListener(e -> {
+            // Animate once the new data has arrived
+            animateNextLoad = true;
+            refreshData();
+        });
+        
+        // Use a panel with GridBagLayout for responsive control positioning
+        JPanel innerControlsPanel = new JPanel(new GridBagLayout());
+        innerControlsPanel.setBackground(Color.WHITE);
+        
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 10);
+        gbc.anchor = GridBagConstraints.WEST;
+        gbc.fill = GridBagConstraints.NONE;
+        
+        gbc.gridx = 0; gbc.gridy = 0;
+        innerControlsPanel.add(timeRangeLabel, gbc);
+        
+        gbc.gridx = 1; gbc.gridy = 0;
+        innerControlsPanel.add(timeRangeCombo, gbc);
+        
+        gbc.gridx = 2; gbc.gridy = 0;
+        innerControlsPanel.add(chartTypeLabel, gbc);
+        
+        gbc.gridx = 3; gbc.gridy = 0;
+        innerControlsPanel.add(chartTypeCombo, gbc);
+        
+        gbc.gridx = 4; gbc.gridy = 0;
+        gbc.anchor = GridBagConstraints.EAST;
+        gbc.weightx = 1.0;
+        innerControlsPanel.add(updateButton, gbc);
+        
+        controlsPanel.add(innerControlsPanel);
+        
+        return controlsPanel;
+    }
+    
+    private void startAnimation() {
+        animationProgress = 0.0;
+        isAnimating = true;
+        animationTimer.restart();
+    }
+    
+    /**
+     * Refresh the statistics data and visualizations
+     */
+    public void refreshData() {
+        // Get the selected time range and chart type
+        String timeRange = (String) timeRangeCombo.getSelectedItem();
+        String chartType = (String) chartTypeCombo.getSelectedItem();
+        
+        // Calculate date range
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate;
+        
+        switch (timeRange) {
+            case "This Week":
+                startDate = endDate.with(WeekFields.of(Locale.getDefault()).dayOfWeek(), 1);
+                break;
+            case "Last Week":
+                startDate = endDate.minusWeeks(1).with(WeekFields.of(Locale.getDefault()).dayOfWeek(), 1);
+                endDate = endDate.minusWeeks(1).with(WeekFields.of(Locale.getDefault()).dayOfWeek(), 7);
+                break;
+            case "This Month":
+                startDate = endDate.withDayOfMonth(1);
+                break;
+            case "Last Month":
+                startDate = endDate.minusMonths(1).withDayOfMonth(1);
+                endDate = endDate.withDayOfMonth(1).minusDays(1);
+                break;
+            case "Last 3 Months":
+                startDate = endDate.minusMonths(3);
+                break;
+            case "This Year":
+                startDate = endDate.withDayOfYear(1);
+                break;
+            default:
+                startDate = endDate.minusWeeks(1);
+        }
+        
+        // Get statistics for the date range in the background
+        Date from = Date.valueOf(startDate);
+        Date to = Date.valueOf(endDate);
+        loader.load(() -> dbManager.async().getSubjectSummary(from, to),
+                    statistics -> showStatistics(statistics, chartType));
+    }
+    
+    /**
+     * Discard a refresh that is still loading
+     */
+    public void cancelRefresh() {
+        loader.cancel();
+    }
+    
+    private void showStatistics(StudySummary statistics, String chartType) {
+        if (animateNextLoad) {
+            animateNextLoad = false;
+            startAnimation();
+        }
+        
+        // Create chart visualization
+        JPanel chart = createChart(statistics, chartType);
+        
+        // Clear and update chart panel
+        chartPanel.removeAll();
+        chartPanel.add(chart, BorderLayout.CENTER);
+        chartPanel.revalidate();
+        chartPanel.repaint();
+        
+        // Update summary panel
+        updateSummaryPanel(statistics);
+    }
+    
+    private JPanel createChart(StudySummary statistics, String chartType) {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(Color.WHITE);
+        
+        if (statistics.isEmpty()) {
+            JLabel noDataLabel = new JLabel("No study data available for the selected period", JLabel.CENTER);
+            noDataLabel.setFont(new Font("Arial", Font.BOLD, UIConstants.FONT_MEDIUM));
+            panel.add(noDataLabel, BorderLayout.CENTER);
+            return panel;
+        }
+        
+        // Draw the chart through an off-screen cache
+        ChartCanvas chartCanvas = new ChartCanvas(statistics, chartType);
+        panel.add(chartCanvas, BorderLayout.CENTER);
+        
+        return panel;
+    }
+    
+    private void updateSummaryPanel(StudySummary statistics) {
+        summaryPanel.removeAll();
+        
+        if (statistics.isEmpty()) {
+            JLabel noDataLabel = new JLabel("No study data available for the selected period", JLabel.CENTER);
+            noDataLabel.setFont(new Font("Arial", Font.BOLD, UIConstants.FONT_MEDIUM));
+            summaryPanel.add(noDataLabel, BorderLayout.CENTER);
+            summaryPanel.revalidate();
+            summaryPanel.repaint();
+            return;
+        }
+        
+        // Total study hours
+        double totalHours = statistics.getGrandTotalHours();
+        int totalSessions = statistics.getGrandTotalSessions();
+        
+        // Create summary panels
+        JPanel summaryGrid = new JPanel(new GridLayout(2, 2, 20, 20));
+        summaryGrid.setBackground(Color.WHITE);
+        summaryGrid.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        
+        // Total hours panel
+        JPanel totalHoursPanel = createSummaryBox("Total Study Hours", 
+                                                String.format("%.1f", totalHours), 
+                                                UIConstants.PRIMARY_COLOR);
+        
+        // Total sessions panel
+        JPanel totalSessionsPanel = createSummaryBox("Study Sessions", 
+                                                  String.valueOf(totalSessions), 
+                                                  UIConstants.ACCENT_COLOR);
+        
+        // Average hours per session
+        double avgHoursPerSession = totalHours / (totalSessions > 0 ? totalSessions : 1);
+        JPanel avgHoursPanel = createSummaryBox("Avg Hours/Session", 
+                                             String.format("%.1f", avgHoursPerSession), 
+                                             UIConstants.INFO_COLOR);
+        
+        // Most studied subject
+        int mostStudied = statistics.getMostStudiedIndex();
+        String mostStudiedSubject = mostStudied >= 0 ? statistics.getSubject(mostStudied) : "";
+        
+        JPanel mostStudiedPanel = createSummaryBox("Most Studied Subject", 
+                                               mostStudiedSubject, 
+                                               UIConstants.WARNING_COLOR);
+        
+        summaryGrid.add(totalHoursPanel);
+        summaryGrid.add(totalSessionsPanel);
+        summaryGrid.add(avgHoursPanel);
+        summaryGrid.add(mostStudiedPanel);
+        
+        summaryPanel.add(summaryGrid, BorderLayout.CENTER);
+        summaryPanel.revalidate();
+        summaryPanel.repaint();
+    }
+    
+    private JPanel createSummaryBox(String label, String value, Color color) {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBackground(Color.WHITE);
+        panel.setBorder(BorderFactory.createLineBorder(color, 2));
+        
+        // Create header with color stripe
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.setBackground(Color.WHITE);
+        
+        JPanel colorStripe = new JPanel();
+        colorStripe.setBackground(color);
+        colorStripe.setPreferredSize(new Dimension(panel.getWidth(), 5));
+        headerPanel.add(colorStripe, BorderLayout.NORTH);
+        
+        JLabel labelComponent = new JLabel(label, JLabel.CENTER);
+        labelComponent.setFont(new Font("Arial", Font.BOLD, UIConstants.FONT_SMALL));
+        labelComponent.setForeground(color);
+        labelComponent.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
+        headerPanel.add(labelComponent, BorderLayout.CENTER);
+        
+        JLabel valueComponent = new JLabel(value, JLabel.CENTER);
+        valueComponent.setFont(new Font("Arial", Font.BOLD, 24));
+        valueComponent.setBorder(BorderFactory.createEmptyBorder(10, 0, 10, 0));
+        
+        panel.add(headerPanel, BorderLayout.NORTH);
+        panel.add(valueComponent, BorderLayout.CENTER);
+        
+        return panel;
+    }
+    
+    /**
+     * Chart component that keeps the rendered chart in an off-screen image.
+     * The image is redrawn only when the size or animation frame changes; mouse
+     * movement only repaints the tooltip area on top of it.
+     */
+    private class ChartCanvas extends JPanel {
+        private final StudySummary statistics;
+        private final String chartType;
+        
+        // Cached chart and the state it was rendered for
+        private BufferedImage cache;
+        private int cacheWidth;
+        private int cacheHeight;
+        private double cacheScale;
+        private double cacheProgress = -1;
+        
+        // Tooltip layer
+        private String tooltip;
+        private Rectangle tooltipBounds;
+        
+        ChartCanvas(StudySummary statistics, String chartType) {
+            this.statistics = statistics;
+            this.chartType = chartType;
+            setBackground(Color.WHITE);
+            
+            // Add mouse listeners for tooltips
+            addMouseMotionListener(new MouseMotionAdapter() {
+                @Override
+                public void mouseMoved(MouseEvent e) {
+                    // Get tooltip data based on position and chart type
+                    String text = StudyChartRenderer.getTooltipAt(e.getPoint(), statistics, chartType,
+                                                                  getWidth(), getHeight());
+                    if (text != null) {
+                        FontMetrics fm = getFontMetrics(StudyChartRenderer.TOOLTIP_FONT);
+                        showTooltip(text, StudyChartRenderer.getTooltipBounds(
+                            fm, text, e.getX(), e.getY(), getWidth()));
+                    } else {
+                        showTooltip(null, null);
+                    }
+                }
+            });
+            
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseExited(MouseEvent e) {
+                    showTooltip(null, null);
+                }
+            });
+        }
+        
+        private void showTooltip(String text, Rectangle bounds) {
+            if (Objects.equals(text, tooltip) && Objects.equals(bounds, tooltipBounds)) {
+                return;
+            }
+            
+            // Repaint only where the old and new tooltip were drawn
+            if (tooltipBounds != null) {
+                repaint(tooltipBounds.x - 1, tooltipBounds.y - 1, tooltipBounds.width + 2, tooltipBounds.height + 2);
+            }
+            tooltip = text;
+            tooltipBounds = bounds;
+            if (tooltipBounds != null) {
+                repaint(tooltipBounds.x - 1, tooltipBounds.y - 1, tooltipBounds.width + 2, tooltipBounds.height + 2);
+            }
+        }
+        
+        @Override
+        protected void paintComponent(Graphics g) {
+            int width = getWidth();
+            int height = getHeight();
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+            
+            Graphics2D g2d = (Graphics2D) g;
+            ChartPaintEvent event = new ChartPaintEvent();
+            event.begin();
+            
+            // Render at device resolution so the cached image stays sharp on scaled displays
+            double scale = g2d.getTransform().getScaleX();
+            boolean rendered = cache == null || width != cacheWidth || height != cacheHeight
+                    || scale != cacheScale || animationProgress != cacheProgress;
+            if (rendered) {
+                renderCache(width, height, scale);
+            }
+            g2d.drawImage(cache, 0, 0, width, height, null);
+            
+            // Draw tooltip if active
+            if (tooltip != null) {
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2d.setFont(StudyChartRenderer.TOOLTIP_FONT);
+                StudyChartRenderer.drawTooltip(g2d, tooltip, tooltipBounds);
+            }
+            
+            event.end();
+            if (event.shouldCommit()) {
+                event.chartType = chartType;
+                event.items = statistics != null ? statistics.size() : 0;
+                event.width = width;
+                event.height = height;
+                event.rendered = rendered;
+                event.commit();
+            }
+        }
+        
+        private void renderCache(int width, int height, double scale) {
+            int imageWidth = (int) Math.ceil(width * scale);
+            int imageHeight = (int) Math.ceil(height * scale);
+            if (cache == null || cache.getWidth() != imageWidth || cache.getHeight() != imageHeight) {
+                if (cache != null) {
+                    cache.flush();
+                }
+                GraphicsConfiguration gc = getGraphicsConfiguration();
+                cache = gc != null
+                    ? gc.createCompatibleImage(imageWidth, imageHeight)
+                    : new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+            }
+            
+            Graphics2D g2d = cache.createGraphics();
+            try {
+                g2d.scale(scale, scale);
+                g2d.setFont(getFont());
+                StudyChartRenderer.render(g2d, statistics, chartType, width, height, animationProgress);
+            } finally {
+                g2d.dispose();
+            }
+            
+            cacheWidth = width;
+            cacheHeight = height;
+            cacheScale = scale;
+            cacheProgress = animationProgress;
+        }
+        
+        @Override
+        public Dimension getPreferredSize() {
+            // Ensure chart has a reasonable minimum size
+            return new Dimension(600, 400);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.studytracker.ui;
+
+import com.studytracker.model.DailyStudyHours;
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.StudyDaySet;
+import com.studytracker.model.StudyMonthCache;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+public class StudyCalendarPanel extends JPanel {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    // Writes often arrive in bursts, e.g. a batch of logs; reload the heatmap once after them
+    private static final int HEATMAP_RELOAD_DELAY_MS = 300;
+
+    private final JButton startButton;
+    private final JButton refreshButton;
+    private final JLabel monthLabel;
+    private final JPanel calendarGrid;
+    // Six weeks of day cells, created once and updated in place
+    private final JLabel[] dayCells = new JLabel[42];
+    private final StudyHeatmap heatmap;
+    private final JLabel heatmapSummary;
+    private final Timer heatmapReload;
+    private final int userId;
+    private final DatabaseManager db;
+
+    // Study days per month, kept current by write events
+    private final StudyMonthCache monthCache;
+    private YearMonth shownMonth = YearMonth.now();
+    private StudyDaySet studyDays;
+    
+    // Loads study days off the EDT
+    private final BackgroundLoader loader = new BackgroundLoader();
+    private final BackgroundLoader heatmapLoader = new BackgroundLoader();
+
+    public StudyCalendarPanel(int userId, DatabaseManager db) {
+        this.userId = userId;
+        this.db     = db;
+        heatmapReload = new Timer(HEATMAP_RELOAD_DELAY_MS, e -> fetchHeatmap());
+        heatmapReload.setRepeats(false);
+        this.monthCache = new StudyMonthCache(db, userId, month -> SwingUtilities.invokeLater(() -> {
+            if (month.equals(shownMonth)) {
+                fetchStudyDays(null);
+            }
+            heatmapReload.restart();
+        }));
+        db.addStudyDataListener(monthCache);
+
+        setLayout(new BorderLayout());
+
+        // Control panel for buttons
+        JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+
+        // "Started Studying" button
+        startButton = new JButton("Started Studying");
+        startButton.addActionListener(e -> {
+            LocalDate today = LocalDate.now();
+            if (studyDays != null && studyDays.covers(today)) {
+                studyDays = studyDays.with(today); // Show it now; the write event updates the cache
+            }
+            refreshCalendar();
+            db.async().logStudySession(userId, today);     // use injected db
+        });
+        
+        // "Refresh Calendar" button
+        refreshButton = new JButton("Refresh Calendar");
+        refreshButton.addActionListener(e -> {
+            monthCache.invalidate();
+            fetchHeatmap();
+            fetchStudyDays(() ->
+                JOptionPane.showMessageDialog(this, "Calendar refreshed successfully!", 
+                                              "Refresh", JOptionPane.INFORMATION_MESSAGE));
+        });
+
+        // Month navigation
+        JButton previousButton = new JButton("<");
+        previousButton.addActionListener(e -> showMonth(shownMonth.minusMonths(1)));
+        JButton nextButton = new JButton(">");
+        nextButton.addActionListener(e -> showMonth(shownMonth.plusMonths(1)));
+        monthLabel = new JLabel();
+
+        controlPanel.add(startButton);
+        controlPanel.add(refreshButton);
+        controlPanel.add(previousButton);
+        controlPanel.add(monthLabel);
+        controlPanel.add(nextButton);
+
+        // calendar grid (7 columns for Sun→Sat)
+        calendarGrid = new JPanel(new GridLayout(0, 7, 2, 2));
+        for (int i = 0; i < dayCells.length; i++) {
+            dayCells[i] = new JLabel("", SwingConstants.CENTER);
+            dayCells[i].setOpaque(true);
+            calendarGrid.add(dayCells[i]);
+        }
+
+        // Year of activity below the month
+        heatmap = new StudyHeatmap();
+        heatmapSummary = new JLabel(" ");
+        JPanel heatmapPanel = new JPanel(new BorderLayout(0, 4));
+        heatmapPanel.setBorder(BorderFactory.createTitledBorder("Last 12 months"));
+        heatmapPanel.add(heatmapSummary, BorderLayout.NORTH);
+        heatmapPanel.add(new JScrollPane(heatmap, JScrollPane.VERTICAL_SCROLLBAR_NEVER,
+                                         JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED), BorderLayout.CENTER);
+
+        add(controlPanel, BorderLayout.NORTH);
+        add(calendarGrid, BorderLayout.CENTER);
+        add(heatmapPanel, BorderLayout.SOUTH);
+
+        showMonth(shownMonth);
+        fetchHeatmap();
+    }
+
+    /**
+     * Loads a year of daily hours in one query and repaints the heatmap on the EDT
+     */
+    private void fetchHeatmap() {
+        LocalDate[] range = StudyHeatmap.rangeEndingOn(LocalDate.now());
+        heatmapLoader.load(() -> db.async().getDailyHours(userId, range[0], range[1]), hours -> {
+            if (hours == null) {
+                return;
+            }
+            heatmap.setData(hours);
+            heatmapSummary.setText(String.format("%.1f hours on %d days", 
+                                                 hours.getTotalHours(), hours.getActiveDays()));
+        });
+    }
+
+    /**
+     * Shows a month, drawing it at once if it is cached, and prefetches its neighbours
+     */
+    private void showMonth(YearMonth month) {
+        shownMonth = month;
+        studyDays = monthCache.getIfLoaded(month);
+        refreshCalendar();
+        if (studyDays == null) {
+            fetchStudyDays(null);
+        } else {
+            loader.cancel(); // An earlier month may still be loading
+        }
+        monthCache.prefetchAround(month);
+    }
+
+    /**
+     * Loads the shown month's study days in the background and redraws the calendar on the EDT
+     * @param onLoaded optional action to run after the calendar is updated
+     */
+    private void fetchStudyDays(Runnable onLoaded) {
+        YearMonth month = shownMonth;
+        loader.load(() -> monthCache.getMonth(month), days -> {
+            studyDays = days;
+            refreshCalendar();
+            if (onLoaded != null) {
+                onLoaded.run();
+            }
+        });
+    }
+
+    private void refreshCalendar() {
+        monthLabel.setText(shownMonth.format(MONTH_FORMAT));
+
+        LocalDate firstDay  = shownMonth.atDay(1);
+        int startOffset     = firstDay.getDayOfWeek().getValue() % 7; // Sun=0, Mon=1...
+        int daysInMonth     = shownMonth.lengthOfMonth();
+
+        // Cells before the first weekday and after the last day stay blank
+        for (int i = 0; i < dayCells.length; i++) {
+            int day = i - startOffset + 1;
+            JLabel cell = dayCells[i];
+            if (day < 1 || day > daysInMonth) {
+                cell.setText("");
+                cell.setBackground(getBackground());
+            } else {
+                cell.setText(String.valueOf(day));
+                boolean studied = studyDays != null && studyDays.contains(firstDay.withDayOfMonth(day));
+                cell.setBackground(studied ? Color.GREEN : Color.LIGHT_GRAY);
+            }
+        }
+    }
+    
+    /**
+     * Public method to refresh data from the database and update the calendar
+     */
+    public void refreshData() {
+        fetchStudyDays(null);
+        fetchHeatmap();
+    }
+    
+    /**
+     * Discard a refresh that is still loading
+     */
+    public void cancelRefresh() {
+        loader.cancel();
+        heatmapLoader.cancel();
+    }
+}
@@ -0,0 +1,446 @@
+package com.studytracker.ui;
+
+import com.studytracker.model.StudySummary;
+import com.studytracker.util.UIConstants;
+
+import java.awt.*;
+import java.awt.geom.*;
+
+/**
+ * Draws the statistics charts. Rendering only depends on its arguments, so
+ * callers can draw into an off-screen image and reuse it between repaints.
+ */
+public class StudyChartRenderer {
+    public static final String BAR_CHART = "Bar Chart";
+    public static final String PIE_CHART = "Pie Chart";
+    public static final String LINE_CHART = "Line Chart";
+    
+    public static final Font TOOLTIP_FONT = new Font("Arial", Font.BOLD, UIConstants.FONT_MEDIUM);
+    
+    private static final int PADDING = 40;
+    private static final Color TOOLTIP_BACKGROUND = new Color(0, 0, 0, 200);
+    
+    private StudyChartRenderer() {
+    }
+    
+    /**
+     * Draws a complete chart, background included
+     * @param progress animation progress from 0.0 to 1.0
+     */
+    public static void render(Graphics2D g2d, StudySummary statistics, String chartType,
+                              int width, int height, double progress) {
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, width, height);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        
+        // Draw chart based on type
+        if (chartType.equals(BAR_CHART)) {
+            drawBarChart(g2d, statistics, width, height, PADDING, progress);
+        } else if (chartType.equals(PIE_CHART)) {
+            drawPieChart(g2d, statistics, width, height, progress);
+        } else if (chartType.equals(LINE_CHART)) {
+            drawLineChart(g2d, statistics, width, height, PADDING, progress);
+        }
+    }
+    
+    /**
+     * Gets the tooltip text for the bar, slice or point under the given position
+     * @return the tooltip text, or null if nothing is under the point
+     */
+    public static String getTooltipAt(Point point, StudySummary statistics,
+                                      String chartType, int width, int height) {
+        int padding = PADDING;
+        
+        if (chartType.equals(BAR_CHART)) {
+            // Calculate bar positions and check if mouse is over a bar
+            int chartWidth = width - 2 * padding;
+            int barWidth = chartWidth / (statistics.size() * 2);
+            
+            // Bars sit at regular intervals, so the bar index follows directly from x
+            int offset = point.x - (padding + barWidth);
+            if (barWidth > 0 && offset >= 0) {
+                int index = offset / (barWidth * 2);
+                if (index < statistics.size() && offset - index * barWidth * 2 <= barWidth) {
+                    return formatTooltip(statistics, index);
+                }
+            }
+        } else if (chartType.equals(PIE_CHART)) {
+            // Check if mouse is over a pie slice
+            int diameter = Math.min(width, height) - 100;
+            int x = (width - diameter) / 2;
+            int y = (height - diameter) / 2;
+            
+            // Only check if within pie bounds
+            int centerX = x + diameter / 2;
+            int centerY = y + diameter / 2;
+            
+            // Check if point is within circle
+            double distanceFromCenter = Math.sqrt(
+                Math.pow(point.x - centerX, 2) + Math.pow(point.y - centerY, 2)
+            );
+            
+            if (distanceFromCenter <= diameter / 2) {
+                // Calculate angle
+                double angle = Math.toDegrees(Math.atan2(point.y - centerY, point.x - centerX));
+                if (angle < 0) angle += 360;
+                
+                double totalHours = statistics.getGrandTotalHours();
+                
+                // Find which slice the angle falls into
+                double currentAngle = 0;
+                for (int i = 0; i < statistics.size(); i++) {
+                    double arcAngle = 360.0 * (statistics.getTotalHours(i) / totalHours);
+                    
+                    if (angle >= currentAngle && angle < currentAngle + arcAngle) {
+                        return formatTooltip(statistics, i);
+                    }
+                    
+                    currentAngle += arcAngle;
+                }
+            }
+        } else if (chartType.equals(LINE_CHART)) {
+            // Calculate points and check if mouse is near a point
+            int chartWidth = width - 2 * padding;
+            int pointSpacing = chartWidth / (statistics.size() - 1);
+            
+            // Snap to the nearest point, then check it is within 10 pixels
+            if (pointSpacing > 0) {
+                int index = Math.round((point.x - padding) / (float) pointSpacing);
+                if (index >= 0 && index < statistics.size()
+                        && Math.abs(point.x - (padding + index * pointSpacing)) <= 10) {
+                    return formatTooltip(statistics, index);
+                }
+            }
+        }
+        
+        return null;
+    }
+    
+    private static String formatTooltip(StudySummary statistics, int index) {
+        return String.format("%s: %.1f hours (%d sessions)",
+                             statistics.getSubject(index),
+                             statistics.getTotalHours(index),
+                             statistics.getSessions(index));
+    }
+    
+    /**
+     * Gets the area a tooltip for the given text and mouse position covers
+     */
+    public static Rectangle getTooltipBounds(FontMetrics fm, String text, int x, int y, int panelWidth) {
+        int padding = 5;
+        int width = fm.stringWidth(text) + padding * 2;
+        int height = fm.getHeight() + padding * 2;
+        
+        // Position tooltip to stay within panel bounds
+        x = Math.max(x, padding);
+        x = Math.min(x, panelWidth - width - padding);
+        
+        return new Rectangle(x, y - height - 5, width, height);
+    }
+    
+    /**
+     * Draws a tooltip inside the given bounds
+     */
+    public static void drawTooltip(Graphics2D g2d, String text, Rectangle bounds) {
+        // Create tooltip background
+        g2d.setColor(TOOLTIP_BACKGROUND);
+        g2d.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 8, 8);
+        
+        // Draw tooltip text
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(text, bounds.x + 5, bounds.y + bounds.height - 5);
+    }
+    
+    private static void drawBarChart(Graphics2D g2d, StudySummary statistics, int width, int height,
+                                     int padding, double progress) {
+        // Max value for scaling
+        double maxHours = statistics.getMaxHours();
+        
+        // Chart dimensions
+        int chartWidth = width - 2 * padding;
+        int chartHeight = height - 2 * padding;
+        int barWidth = chartWidth / (statistics.size() * 2);
+        
+        // Draw axes
+        g2d.setColor(Color.BLACK);
+        g2d.drawLine(padding, height - padding, width - padding, height - padding); // X axis
+        g2d.drawLine(padding, padding, padding, height - padding); // Y axis
+        
+        // Draw grid lines
+        g2d.setColor(new Color(200, 200, 200));
+        g2d.setStroke(new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{3}, 0));
+        
+        int gridLines = 5;
+        for (int i = 1; i <= gridLines; i++) {
+            int y = height - padding - (i * chartHeight / gridLines);
+            g2d.drawLine(padding, y, width - padding, y);
+            
+            // Label the grid line
+            g2d.setColor(Color.DARK_GRAY);
+            String label = String.format("%.1f", (i * maxHours / gridLines));
+            g2d.drawString(label, padding - 30, y + 5);
+            g2d.setColor(new Color(200, 200, 200));
+        }
+        
+        g2d.setStroke(new BasicStroke(1));
+        
+        // Draw bars
+        int x = padding + barWidth;
+        for (int i = 0; i < statistics.size(); i++) {
+            String subject = statistics.getSubject(i);
+            double hours = statistics.getTotalHours(i);
+            
+            // Apply animation to bar height
+            double animatedHours = hours * progress;
+            int barHeight = (int)((animatedHours / maxHours) * chartHeight);
+            
+            // Create gradient for bar
+            GradientPaint gradient = new GradientPaint(
+                x, height - padding, UIConstants.PRIMARY_COLOR,
+                x, height - padding - barHeight, UIConstants.INFO_COLOR
+            );
+            g2d.setPaint(gradient);
+            
+            // Draw rounded bar
+            RoundRectangle2D.Double bar = new RoundRectangle2D.Double(
+                x, height - padding - barHeight, barWidth, barHeight, 
+                barWidth/4, barWidth/4
+            );
+            g2d.fill(bar);
+            
+            // Draw outline
+            g2d.setColor(new Color(60, 60, 60));
+            g2d.draw(bar);
+            
+            // Draw label
+            g2d.setColor(Color.BLACK);
+            FontMetrics fm = g2d.getFontMetrics();
+            String shortSubject = subject.length() > 10 ? subject.substring(0, 10) + "..." : subject;
+            int textWidth = fm.stringWidth(shortSubject);
+            g2d.drawString(shortSubject, x + (barWidth - textWidth)/2, height - padding + 15);
+            
+            // Draw value
+            String value = String.format("%.1f", hours);
+            textWidth = fm.stringWidth(value);
+            g2d.drawString(value, x + (barWidth - textWidth)/2, height - padding - barHeight - 5);
+            
+            x += barWidth * 2;
+        }
+        
+        // Draw title
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(new Font("Arial", Font.BOLD, UIConstants.FONT_MEDIUM));
+        g2d.drawString("Study Hours by Subject", width / 2 - 80, padding / 2);
+    }
+    
+    private static void drawPieChart(Graphics2D g2d, StudySummary statistics, int width, int height,
+                                     double progress) {
+        double totalHours = statistics.getGrandTotalHours();
+        
+        // Chart dimensions
+        int diameter = Math.min(width, height) - 100;
+        int x = (width - diameter) / 2;
+        int y = (height - diameter) / 2;
+        
+        // Colors for pie slices
+        Color[] colors = {
+            UIConstants.PRIMARY_COLOR,
+            UIConstants.ACCENT_COLOR,
+            UIConstants.WARNING_COLOR,
+            UIConstants.DANGER_COLOR,
+            UIConstants.INFO_COLOR,
+            new Color(96, 92, 168)
+        };
+        
+        // Draw pie slices
+        double currentAngle = 0;
+        int colorIndex = 0;
+        
+        // Draw legend
+        int legendX = width - 160;
+        int legendY = 50;
+        
+        g2d.setStroke(new BasicStroke(1.5f));
+        
+        for (int i = 0; i < statistics.size(); i++) {
+            String subject = statistics.getSubject(i);
+            double hours = statistics.getTotalHours(i);
+            
+            // Apply animation to angle
+            double animatedHours = hours * progress;
+            double arcAngle = 360.0 * (animatedHours / totalHours);
+            
+            Color pieColor = colors[colorIndex % colors.length];
+            
+            // Draw pie slice
+            g2d.setColor(pieColor);
+            
+            // Create a slightly separated slice for 3D effect
+            double radians = Math.toRadians(currentAngle + arcAngle/2);
+            int offsetX = (int)(5 * Math.cos(radians));
+            int offsetY = (int)(5 * Math.sin(radians));
+            
+            g2d.fillArc(
+                x + offsetX, 
+                y + offsetY, 
+                diameter, 
+                diameter, 
+                (int)currentAngle, 
+                (int)arcAngle
+            );
+            
+            // Draw slice outline
+            g2d.setColor(Color.WHITE);
+            g2d.drawArc(
+                x + offsetX, 
+                y + offsetY, 
+                diameter, 
+                diameter, 
+                (int)currentAngle, 
+                (int)arcAngle
+            );
+            
+            // Draw legend
+            g2d.setColor(pieColor);
+            g2d.fillRoundRect(legendX, legendY, 15, 15, 4, 4);
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(subject + ": " + String.format("%.1f", hours) + " hrs", legendX + 20, legendY + 12);
+            
+            currentAngle += arcAngle;
+            colorIndex++;
+            legendY += 20;
+        }
+        
+        // Draw a white circle in center for donut effect
+        g2d.setColor(Color.WHITE);
+        int innerDiameter = (int)(diameter * 0.4);
+        g2d.fillOval(
+            x + (diameter - innerDiameter)/2,
+            y + (diameter - innerDiameter)/2,
+            innerDiameter,
+            innerDiameter
+        );
+        
+        // Draw title
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(new Font("Arial", Font.BOLD, UIConstants.FONT_MEDIUM));
+        g2d.drawString("Study Time Distribution", width / 2 - 90, 30);
+    }
+    
+    private static void drawLineChart(Graphics2D g2d, StudySummary statistics, int width, int height,
+                                      int padding, double progress) {
+        // Max value for scaling
+        double maxHours = statistics.getMaxHours();
+        
+        // Chart dimensions
+        int chartWidth = width - 2 * padding;
+        int chartHeight = height - 2 * padding;
+        
+        // Draw grid
+        g2d.setColor(new Color(220, 220, 220));
+        g2d.setStroke(new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0, new float[]{3}, 0));
+        
+        int gridLines = 5;
+        for (int i = 1; i <= gridLines; i++) {
+            int y = height - padding - (i * chartHeight / gridLines);
+            g2d.drawLine(padding, y, width - padding, y);
+            
+            // Label the grid line
+            g2d.setColor(Color.DARK_GRAY);
+            String label = String.format("%.1f", (i * maxHours / gridLines));
+            g2d.drawString(label, padding - 30, y + 5);
+            g2d.setColor(new Color(220, 220, 220));
+        }
+        
+        // Draw axes
+        g2d.setColor(Color.BLACK);
+        g2d.setStroke(new BasicStroke(1));
+        g2d.drawLine(padding, height - padding, width - padding, height - padding); // X axis
+        g2d.drawLine(padding, padding, padding, height - padding); // Y axis
+        
+        if (statistics.size() > 1) {
+            // Calculate points
+            int[] xPoints = new int[statistics.size()];
+            int[] yPoints = new int[statistics.size()];
+            
+            int pointX = padding;
+            int pointSpacing = chartWidth / (statistics.size() - 1);
+            
+            for (int i = 0; i < statistics.size(); i++) {
+                double hours = statistics.getTotalHours(i) * progress; // Apply animation
+                String subject = statistics.getSubject(i);
+                
+                xPoints[i] = pointX;
+                yPoints[i] = height - padding - (int)((hours / maxHours) * chartHeight);
+                
+                // Draw label
+                g2d.setColor(Color.BLACK);
+                String shortSubject = subject.length() > 8 ? subject.substring(0, 8) + "..." : subject;
+                g2d.drawString(shortSubject, pointX - 15, height - padding + 15);
+                
+                pointX += pointSpacing;
+            }
+            
+            // Draw area under the line
+            g2d.setColor(new Color(UIConstants.PRIMARY_COLOR.getRed(),
+                                  UIConstants.PRIMARY_COLOR.getGreen(), 
+                                  UIConstants.PRIMARY_COLOR.getBlue(), 50));
+            
+            GeneralPath area = new GeneralPath();
+            area.moveTo(xPoints[0], height - padding);
+            for (int i = 0; i < xPoints.length; i++) {
+                area.lineTo(xPoints[i], yPoints[i]);
+            }
+            area.lineTo(xPoints[xPoints.length-1], height - padding);
+            area.closePath();
+            
+            g2d.fill(area);
+            
+            // Draw curved line connecting points
+            g2d.setColor(UIConstants.PRIMARY_COLOR);
+            g2d.setStroke(new BasicStroke(3));
+            
+            GeneralPath path = new GeneralPath();
+            path.moveTo(xPoints[0], yPoints[0]);
+            
+            // Use cubic curves for smooth lines between points
+            for (int i = 0; i < xPoints.length - 1; i++) {
+                int x1 = xPoints[i];
+                int y1 = yPoints[i];
+                int x2 = xPoints[i+1];
+                int y2 = yPoints[i+1];
+                
+                int ctrlX1 = x1 + (x2 - x1) / 2;
+                int ctrlY1 = y1;
+                int ctrlX2 = x1 + (x2 - x1) / 2;
+                int ctrlY2 = y2;
+                
+                path.curveTo(ctrlX1, ctrlY1, ctrlX2, ctrlY2, x2, y2);
+            }
+            
+            g2d.draw(path);
+            
+            // Draw points and values
+            for (int i = 0; i < xPoints.length; i++) {
+                double hours = statistics.getTotalHours(i);
+                
+                // Draw point
+                g2d.setColor(Color.WHITE);
+                g2d.fillOval(xPoints[i] - 5, yPoints[i] - 5, 10, 10);
+                
+                g2d.setColor(UIConstants.DANGER_COLOR);
+                g2d.fillOval(xPoints[i] - 4, yPoints[i] - 4, 8, 8);
+                
+                // Draw value
+                g2d.setColor(Color.BLACK);
+                String value = String.format("%.1f", hours);
+                g2d.drawString(value, xPoints[i] - 10, yPoints[i] - 10);
+            }
+        }
+        
+        // Draw title
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(new Font("Arial", Font.BOLD, UIConstants.FONT_MEDIUM));
+        g2d.drawString("Study Progress Trend", width / 2 - 80, padding / 2);
+    }
+}
@@ -12,6 +12,7 @@ import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.text.DecimalFormat;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Panel for managing study goals
@@ -29,6 +30,22 @@ public class StudyGoalsPanel extends JPanel {
     private JPanel goalProgressPanel;
     private JSplitPane mainSplitPane;
     
+    // Loads goals and progress off the EDT
+    private final BackgroundLoader loader = new BackgroundLoader();
+    
+    /**
+     * Goals and their current progress, loaded together in the background
+     */
+    private static class GoalData {
+        final List<StudyGoal> goals;
+        final Map<Integer, Double> progress;
+        
+        GoalData(List<StudyGoal> goals, Map<Integer, Double> progress) {
+            this.goals = goals;
+            this.progress = progress;
+        }
+    }
+    
     public StudyGoalsPanel(DatabaseManager dbManager, User currentUser) {
         this.dbManager = dbManager;
         this.currentUser = currentUser;
@@ -263,15 +280,17 @@ public class StudyGoalsPanel extends JPanel {
                 periodType
             );
             
-            if (dbManager.addStudyGoal(goal)) {
-                goalSubjectField.setText("");
-                targetHoursField.setText("");
-                
-                refreshData(); // Refresh goals display
-                UIUtils.showInfo(this, "Study goal saved successfully!");
-            } else {
-                UIUtils.showError(this, "Error saving study goal!");
-            }
+            dbManager.async().addStudyGoal(goal).thenAccept(saved -> SwingUtilities.invokeLater(() -> {
+                if (saved) {
+                    goalSubjectField.setText("");
+                    targetHoursField.setText("");
+                    
+                    refreshData(); // Refresh goals display
+                    UIUtils.showInfo(this, "Study goal saved successfully!");
+                } else {
+                    UIUtils.showError(this, "Error saving study goal!");
+                }
+            }));
             
         } catch (NumberFormatException e) {
             UIUtils.showError(this, "Target hours must be a valid number!");
@@ -293,18 +312,23 @@ public class StudyGoalsPanel extends JPanel {
         int goalId = (Integer) goalTable.getValueAt(selectedRow, 4); // Hidden column for ID
         
         // Call the database method to toggle the goal's active status
-        if (dbManager.toggleGoalActiveStatus(goalId)) {
-            UIUtils.showInfo(this, "Goal status toggled successfully!");
-            refreshData(); // Refresh the display to show updated status
-        } else {
-            UIUtils.showError(this, "Failed to toggle goal status!");
-        }
+        dbManager.async().toggleGoalActiveStatus(goalId).thenAccept(toggled -> SwingUtilities.invokeLater(() -> {
+            if (toggled) {
+                UIUtils.showInfo(this, "Goal status toggled successfully!");
+                refreshData(); // Refresh the display to show updated status
+            } else {
+                UIUtils.showError(this, "Failed to toggle goal status!");
+            }
+        }));
     }
     
     /**
      * Updates the goal progress visualization panel
+     * 
+     * @param goals all goals for the user
+     * @param progress hours studied in the current period, keyed by goal ID
      */
-    private void updateProgressPanel(List<StudyGoal> goals) {
+    private void updateProgressPanel(List<StudyGoal> goals, Map<Integer, Double> progress) {
         goalProgressPanel.removeAll();
         
         if (goals.isEmpty()) {
@@ -325,7 +349,7 @@ public class StudyGoalsPanel extends JPanel {
                 // Create progress bars for each active goal
                 for (StudyGoal goal : activeGoals) {
                     // Get the current progress for this goal
-                    double currentHours = dbManager.getStudyHoursForGoal(goal);
+                    double currentHours = progress.getOrDefault(goal.getId(), 0.0);
                     double targetHours = goal.getTargetHours();
                     double progressPercent = Math.min(currentHours / targetHours * 100, 100);
                     
@@ -383,12 +407,26 @@ public class StudyGoalsPanel extends JPanel {
     }
     
     /**
-     * Refresh the data in the table
+     * Refresh the data in the table. Goals and progress are loaded in the background.
      */
     public void refreshData() {
-        // Switch to using getAllStudyGoals to include both active and inactive goals
-        List<StudyGoal> goals = dbManager.getAllStudyGoals();
-        
+        loader.load(() -> dbManager.async().supply(() -> {
+            // Switch to using getAllStudyGoals to include both active and inactive goals
+            List<StudyGoal> goals = dbManager.getAllStudyGoals();
+            // Progress for every active goal comes back from one grouped query
+            Map<Integer, Double> progress = dbManager.getGoalProgress();
+            return new GoalData(goals, progress);
+        }), data -> showGoals(data.goals, data.progress));
+    }
+    
+    /**
+     * Discard a refresh that is still loading
+     */
+    public void cancelRefresh() {
+        loader.cancel();
+    }
+    
+    private void showGoals(List<StudyGoal> goals, Map<Integer, Double> progress) {
         // Clear the table
         goalTableModel.setRowCount(0);
         
@@ -404,6 +442,6 @@ public class StudyGoalsPanel extends JPanel {
         }
         
         // Update progress visualization
-        updateProgressPanel(goals);
+        updateProgressPanel(goals, progress);
     }
 }
\ No newline at end of file
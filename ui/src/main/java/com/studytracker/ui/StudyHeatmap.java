@@ -0,0 +1,177 @@
+package com.studytracker.ui;
+
+import com.studytracker.model.DailyStudyHours;
+import com.studytracker.util.UIConstants;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * A year of study activity as a grid of day cells, one column per week and
+ * one row per weekday, shaded by hours studied. The whole grid is painted by
+ * this one component; the cell under the mouse is found from its position.
+ */
+public class StudyHeatmap extends JComponent {
+    public static final int WEEKS = 53;
+
+    private static final int CELL = 12;
+    private static final int GAP = 3;
+    private static final int STEP = CELL + GAP;
+    private static final int LEFT = 34;   // Room for weekday labels
+    private static final int TOP = 20;    // Room for month labels
+    private static final int LEGEND_HEIGHT = 24;
+
+    // Empty, then four levels of activity
+    private static final Color[] LEVEL_COLORS = {
+        new Color(235, 237, 240),
+        new Color(155, 233, 168),
+        new Color(64, 196, 99),
+        new Color(48, 161, 78),
+        new Color(33, 110, 57)
+    };
+    private static final DateTimeFormatter TOOLTIP_DATE = DateTimeFormatter.ofPattern("EEE, MMM d, yyyy");
+    private static final Font LABEL_FONT = new Font("Segoe UI", Font.PLAIN, UIConstants.FONT_SMALL);
+
+    private DailyStudyHours data;
+    private LocalDate firstSunday;
+    // Shade of each cell, by day offset from firstSunday; computed once per data set
+    private byte[] levels = new byte[0];
+
+    public StudyHeatmap() {
+        setToolTipText(""); // Registers with the tooltip manager; text comes from getToolTipText(MouseEvent)
+        setFont(LABEL_FONT);
+        setOpaque(true);
+        setBackground(Color.WHITE);
+    }
+
+    /**
+     * Gets the first and last day a heatmap ending today shows, for loading its data
+     */
+    public static LocalDate[] rangeEndingOn(LocalDate today) {
+        LocalDate lastSaturday = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        return new LocalDate[]{lastSaturday.minusWeeks(WEEKS).plusDays(1), today};
+    }
+
+    /**
+     * Shows new hours. Must be called on the EDT.
+     */
+    public void setData(DailyStudyHours data) {
+        this.data = data;
+        firstSunday = data.getFrom().with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+
+        // Shades are relative to the busiest day, in quarters
+        double max = data.getMaxHours();
+        levels = new byte[WEEKS * 7];
+        for (int i = 0; i < levels.length; i++) {
+            double hours = data.getHours(firstSunday.plusDays(i));
+            if (hours > 0) {
+                levels[i] = (byte) Math.max(1, Math.min(4, (int) Math.ceil(hours / max * 4)));
+            }
+        }
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(LEFT + WEEKS * STEP + 10, TOP + 7 * STEP + LEGEND_HEIGHT);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+        if (data == null) {
+            return;
+        }
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setFont(getFont());
+        FontMetrics metrics = g2d.getFontMetrics();
+
+        // Weekday labels on alternate rows, as there is only room for every other one
+        g2d.setColor(Color.GRAY);
+        String[] weekdays = {"Mon", "Wed", "Fri"};
+        for (int i = 0; i < weekdays.length; i++) {
+            int row = 1 + i * 2;
+            g2d.drawString(weekdays[i], 2, TOP + row * STEP + CELL - 2);
+        }
+
+        Rectangle clip = g2d.getClipBounds();
+        LocalDate from = data.getFrom();
+        LocalDate to = data.getTo();
+        for (int week = 0; week < WEEKS; week++) {
+            int x = LEFT + week * STEP;
+            if (clip != null && (x + CELL < clip.x || x > clip.x + clip.width)) {
+                continue;
+            }
+            LocalDate weekStart = firstSunday.plusWeeks(week);
+
+            // Month label over the first week that starts in a new month
+            if (week == 0 || weekStart.getMonthValue() != weekStart.minusWeeks(1).getMonthValue()) {
+                g2d.setColor(Color.GRAY);
+                g2d.drawString(weekStart.getMonth().getDisplayName(TextStyle.SHORT, Locale.getDefault()),
+                               x, TOP - 6);
+            }
+
+            for (int row = 0; row < 7; row++) {
+                LocalDate day = weekStart.plusDays(row);
+                if (day.isBefore(from) || day.isAfter(to)) {
+                    continue;
+                }
+                g2d.setColor(LEVEL_COLORS[levels[week * 7 + row]]);
+                g2d.fillRect(x, TOP + row * STEP, CELL, CELL);
+            }
+        }
+
+        // Legend, bottom right
+        int legendY = TOP + 7 * STEP + 6;
+        int legendX = LEFT + WEEKS * STEP - LEVEL_COLORS.length * STEP - metrics.stringWidth("More") - 4;
+        g2d.setColor(Color.GRAY);
+        g2d.drawString("Less", legendX - metrics.stringWidth("Less") - 6, legendY + CELL - 2);
+        for (int level = 0; level < LEVEL_COLORS.length; level++) {
+            g2d.setColor(LEVEL_COLORS[level]);
+            g2d.fillRect(legendX + level * STEP, legendY, CELL, CELL);
+        }
+        g2d.setColor(Color.GRAY);
+        g2d.drawString("More", legendX + LEVEL_COLORS.length * STEP + 4, legendY + CELL - 2);
+    }
+
+    /**
+     * Gets the day under a point, or null if the point is between or outside the cells
+     */
+    public LocalDate dayAt(Point point) {
+        if (data == null) {
+            return null;
+        }
+        int x = point.x - LEFT;
+        int y = point.y - TOP;
+        if (x < 0 || y < 0 || x % STEP >= CELL || y % STEP >= CELL) {
+            return null;
+        }
+        int week = x / STEP;
+        int row = y / STEP;
+        if (week >= WEEKS || row >= 7) {
+            return null;
+        }
+        LocalDate day = firstSunday.plusDays(week * 7L + row);
+        return day.isBefore(data.getFrom()) || day.isAfter(data.getTo()) ? null : day;
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        LocalDate day = dayAt(event.getPoint());
+        if (day == null) {
+            return null;
+        }
+        double hours = data.getHours(day);
+        return day.format(TOOLTIP_DATE) + ": " +
+               (hours > 0 ? String.format("%.2f hours", hours) : "no study time");
+    }
+}
@@ -2,19 +2,20 @@ package com.studytracker.ui;
 
 import com.studytracker.model.DatabaseManager;
 import com.studytracker.model.StudyLog;
+import com.studytracker.model.StudyLogCsvImporter;
 import com.studytracker.model.User;
 import com.studytracker.util.UIConstants;
 import com.studytracker.util.UIUtils;
 import com.studytracker.util.UIUtils.JDateChooser;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.io.File;
 import java.sql.Date;
-import java.text.DecimalFormat;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Panel for managing study logs
@@ -28,10 +29,13 @@ public class StudyLogPanel extends JPanel {
     private JTextField hoursField;
     private JTextArea notesField;
     private JDateChooser dateChooser;
-    private DefaultTableModel logTableModel;
+    private StudyLogTableModel logTableModel;
     private JTable logTable;
     private JSplitPane splitPane;
     
+    // Loads the row count off the EDT; the table model loads the rows
+    private final BackgroundLoader loader = new BackgroundLoader();
+    
     public StudyLogPanel(DatabaseManager dbManager, User currentUser) {
         this.dbManager = dbManager;
         this.currentUser = currentUser;
@@ -160,14 +164,8 @@ public class StudyLogPanel extends JPanel {
         tablePanel.setBorder(BorderFactory.createTitledBorder("Study History"));
         tablePanel.setBackground(Color.WHITE);
         
-        // Log table
-        String[] columnNames = {"Subject", "Hours", "Date", "Notes"};
-        logTableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table read-only
-            }
-        };
+        // Log table, paged in from the database as rows are shown
+        logTableModel = new StudyLogTableModel(dbManager);
         logTable = new JTable(logTableModel);
         logTable.setRowHeight(UIConstants.TABLE_ROW_HEIGHT);
         logTable.setFont(new Font("Arial", Font.PLAIN, UIConstants.FONT_SMALL));
@@ -195,6 +193,22 @@ public class StudyLogPanel extends JPanel {
             }
         });
         
+        // Show full notes as a tooltip, loading them when the row is selected
+        logTable.getColumnModel().getColumn(3).setCellRenderer(new DefaultTableCellRenderer() {
+            @Override
+            public Component getTableCellRendererComponent(JTable table, Object value, 
+                    boolean isSelected, boolean hasFocus, int row, int column) {
+                super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+                setToolTipText(value != null && !value.toString().isEmpty() ? value.toString() : null);
+                return this;
+            }
+        });
+        logTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting() && logTable.getSelectedRow() >= 0) {
+                logTableModel.loadFullNotes(logTable.getSelectedRow());
+            }
+        });
+        
         JScrollPane scrollPane = new JScrollPane(logTable);
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
         tablePanel.add(scrollPane, BorderLayout.CENTER);
@@ -209,8 +223,12 @@ public class StudyLogPanel extends JPanel {
         JButton refreshButton = UIUtils.createStyledButton("Refresh", Color.WHITE, UIConstants.PRIMARY_COLOR);
         refreshButton.addActionListener(e -> refreshData());
         
+        JButton importButton = UIUtils.createStyledButton("Import CSV", Color.WHITE, UIConstants.INFO_COLOR);
+        importButton.addActionListener(e -> importCsv());
+        
         tableToolbar.add(deleteButton);
         tableToolbar.add(refreshButton);
+        tableToolbar.add(importButton);
         tablePanel.add(tableToolbar, BorderLayout.SOUTH);
         
         return tablePanel;
@@ -236,16 +254,18 @@ public class StudyLogPanel extends JPanel {
                 notes
             );
             
-            if (dbManager.addStudyLog(log)) {
-                subjectField.setText("");
-                hoursField.setText("");
-                notesField.setText("");
-                
-                refreshData(); // Refresh the logs display
-                UIUtils.showInfo(this, "Study session logged successfully!");
-            } else {
-                UIUtils.showError(this, "Error saving study log!");
-            }
+            dbManager.async().addStudyLog(log).thenAccept(saved -> SwingUtilities.invokeLater(() -> {
+                if (saved) {
+                    subjectField.setText("");
+                    hoursField.setText("");
+                    notesField.setText("");
+                    
+                    refreshData(); // Refresh the logs display
+                    UIUtils.showInfo(this, "Study session logged successfully!");
+                } else {
+                    UIUtils.showError(this, "Error saving study log!");
+                }
+            }));
             
         } catch (NumberFormatException e) {
             UIUtils.showError(this, "Hours must be a valid number!");
@@ -274,38 +294,97 @@ public class StudyLogPanel extends JPanel {
         );
         
         if (confirm == JOptionPane.YES_OPTION) {
-            // Get the log ID or use row information to identify the log
-            String subject = (String) logTable.getValueAt(selectedRow, 0);
-            String hours = (String) logTable.getValueAt(selectedRow, 1);
-            Date date = (Date) logTable.getValueAt(selectedRow, 2);
+            StudyLog log = logTableModel.getLogAt(selectedRow);
+            if (log == null) {
+                return; // Row is still loading
+            }
+            String subject = log.getSubject();
+            Date date = log.getDate();
             
             // Call database method to delete the log
-            if (dbManager.deleteStudyLog(subject, date)) {
-                refreshData(); // Refresh the display
-                UIUtils.showInfo(this, "Study log entry deleted successfully!");
-            } else {
-                UIUtils.showError(this, "Failed to delete study log!");
-            }
+            dbManager.async().deleteStudyLog(subject, date).thenAccept(deleted -> SwingUtilities.invokeLater(() -> {
+                if (deleted) {
+                    refreshData(); // Refresh the display
+                    UIUtils.showInfo(this, "Study log entry deleted successfully!");
+                } else {
+                    UIUtils.showError(this, "Failed to delete study log!");
+                }
+            }));
         }
     }
     
     /**
-     * Refresh the data in the table
+     * Import study sessions from a CSV file (subject, hours, date, notes).
+     * The file is read and saved in the background with a progress dialog.
      */
-    public void refreshData() {
-        List<StudyLog> logs = dbManager.getStudyLogs();
-        
-        // Clear the table
-        logTableModel.setRowCount(0);
-        
-        // Add rows to the table
-        for (StudyLog log : logs) {
-            logTableModel.addRow(new Object[]{
-                log.getSubject(),
-                new DecimalFormat("0.00").format(log.getHours()),
-                log.getDate(),
-                log.getNotes()
-            });
+    private void importCsv() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
+        File file = chooser.getSelectedFile();
+        
+        ProgressMonitor monitor = new ProgressMonitor(this, "Importing " + file.getName(), "", 0, 1000);
+        monitor.setMillisToDecideToPopup(200);
+        
+        // The monitor is only touched on the EDT; the importer polls this flag
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        
+        StudyLogCsvImporter importer = new StudyLogCsvImporter(dbManager);
+        StudyLogCsvImporter.Listener listener = new StudyLogCsvImporter.Listener() {
+            @Override
+            public void progress(int imported, long bytesRead, long totalBytes) {
+                int permille = totalBytes > 0 ? (int) Math.min(999, bytesRead * 1000 / totalBytes) : 0;
+                SwingUtilities.invokeLater(() -> {
+                    if (monitor.isCanceled()) {
+                        cancelled.set(true);
+                    }
+                    monitor.setProgress(permille);
+                    monitor.setNote(imported + " sessions imported");
+                });
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return cancelled.get();
+            }
+        };
+        
+        dbManager.async().supply(() -> importer.importFile(file, listener))
+            .whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+                monitor.close();
+                refreshData();
+                
+                if (error != null) {
+                    error.printStackTrace();
+                    UIUtils.showError(this, "Import failed: " + error.getMessage());
+                } else if (result.getError() != null) {
+                    UIUtils.showError(this, "Import stopped after " + result.getImported() +
+                                      " sessions: " + result.getError());
+                } else {
+                    String message = (result.isCancelled() ? "Import cancelled. " : "") +
+                                     result.getImported() + " study sessions imported";
+                    if (result.getSkipped() > 0) {
+                        message += ", " + result.getSkipped() + " invalid rows skipped";
+                    }
+                    UIUtils.showInfo(this, message + ".");
+                }
+            }));
+    }
+    
+    /**
+     * Refresh the data in the table. Only the row count is queried here; the
+     * table model loads pages in the background as they are displayed.
+     */
+    public void refreshData() {
+        loader.load(() -> dbManager.async().getStudyLogCount(currentUser.getId()), logTableModel::reset);
+    }
+    
+    /**
+     * Discard a refresh that is still loading
+     */
+    public void cancelRefresh() {
+        loader.cancel();
     }
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.studytracker.ui;
+
+import com.studytracker.model.DatabaseManager;
+import com.studytracker.model.StudyLog;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.text.DecimalFormat;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Table model that loads study logs one page at a time as rows are displayed.
+ * Only a few recently used pages are kept, so memory stays the same however
+ * many logs the user has. Rows that are not loaded yet show as "Loading...".
+ * All methods must be called on the EDT.
+ */
+public class StudyLogTableModel extends AbstractTableModel {
+    public static final int PAGE_SIZE = 100;
+    private static final int MAX_CACHED_PAGES = 8;
+    private static final String[] COLUMN_NAMES = {"Subject", "Hours", "Date", "Notes"};
+
+    private final DatabaseManager dbManager;
+    private final DecimalFormat hoursFormat = new DecimalFormat("0.00");
+
+    private int rowCount = 0;
+
+    // Bumped on reset so pages still loading for old data are dropped
+    private int generation = 0;
+
+    // Loaded pages by page number, least recently used first
+    private final Map<Integer, List<StudyLog>> pages = new LinkedHashMap<Integer, List<StudyLog>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<StudyLog>> eldest) {
+            return size() > MAX_CACHED_PAGES;
+        }
+    };
+    private final Set<Integer> loadingPages = new HashSet<>();
+
+    // Logs whose notes have been loaded in full
+    private final Set<Integer> fullNotes = new HashSet<>();
+
+    public StudyLogTableModel(DatabaseManager dbManager) {
+        this.dbManager = dbManager;
+    }
+
+    /**
+     * Drops all loaded pages and starts over with a new row count
+     */
+    public void reset(int rowCount) {
+        generation++;
+        this.rowCount = rowCount;
+        pages.clear();
+        loadingPages.clear();
+        fullNotes.clear();
+        fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false; // Make table read-only
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        StudyLog log = getLogAt(row);
+        if (log == null) {
+            return column == 0 ? "Loading..." : null;
+        }
+
+        switch (column) {
+            case 0:
+                return log.getSubject();
+            case 1:
+                return hoursFormat.format(log.getHours());
+            case 2:
+                return log.getDate();
+            default:
+                return log.getNotes();
+        }
+    }
+
+    /**
+     * Gets the log shown in a row, or null if its page is still loading.
+     * Requests the page if it is not loaded.
+     */
+    public StudyLog getLogAt(int row) {
+        if (row < 0 || row >= rowCount) {
+            return null;
+        }
+
+        int page = row / PAGE_SIZE;
+        List<StudyLog> logs = pages.get(page);
+        if (logs == null) {
+            requestPage(page);
+            return null;
+        }
+
+        int index = row % PAGE_SIZE;
+        return index < logs.size() ? logs.get(index) : null;
+    }
+
+    /**
+     * Loads the full notes of a row if only the preview has been loaded
+     */
+    public void loadFullNotes(int row) {
+        StudyLog log = getLogAt(row);
+        if (log == null || log.getNotes() == null
+                || log.getNotes().length() < DatabaseManager.NOTES_PREVIEW_LENGTH
+                || !fullNotes.add(log.getId())) {
+            return;
+        }
+
+        int requested = generation;
+        dbManager.async().getStudyLogNotes(log.getId()).whenComplete((notes, error) -> SwingUtilities.invokeLater(() -> {
+            if (requested != generation) {
+                return;
+            }
+            if (error != null) {
+                error.printStackTrace();
+                fullNotes.remove(log.getId());
+            } else if (notes != null) {
+                log.setNotes(notes);
+                fireTableRowsUpdated(row, row);
+            }
+        }));
+    }
+
+    private void requestPage(int page) {
+        if (!loadingPages.add(page)) {
+            return; // Already on its way
+        }
+
+        // Continue from the previous page's last row when we have it, otherwise seek
+        CompletableFuture<List<StudyLog>> future;
+        List<StudyLog> previous = page > 0 ? pages.get(page - 1) : null;
+        if (page == 0) {
+            future = dbManager.async().getStudyLogPage(null, PAGE_SIZE);
+        } else if (previous != null && previous.size() == PAGE_SIZE) {
+            future = dbManager.async().getStudyLogPage(previous.get(PAGE_SIZE - 1), PAGE_SIZE);
+        } else {
+            future = dbManager.async().getStudyLogPageAt(page * PAGE_SIZE, PAGE_SIZE);
+        }
+
+        int requested = generation;
+        future.whenComplete((logs, error) -> SwingUtilities.invokeLater(() -> {
+            if (requested != generation) {
+                return; // Data was reset while loading
+            }
+            loadingPages.remove(page);
+            if (error != null) {
+                error.printStackTrace();
+                return;
+            }
+
+            pages.put(page, logs);
+            int first = page * PAGE_SIZE;
+            int last = Math.min(rowCount, first + PAGE_SIZE) - 1;
+            if (last >= first) {
+                fireTableRowsUpdated(first, last);
+            }
+        }));
+    }
+}
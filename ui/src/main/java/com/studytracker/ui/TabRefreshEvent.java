@@ -0,0 +1,22 @@
+package com.studytracker.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for switching tabs in the main window
+ */
+@Name("com.studytracker.TabRefresh")
+@Label("Tab Refresh")
+@Category({"Study Tracker", "UI"})
+@Description("Time on the Event Dispatch Thread to switch tabs and start the new tab's refresh; " +
+             "the loads it starts in the background show up as Data Access events")
+class TabRefreshEvent extends jdk.jfr.Event {
+    @Label("Tab")
+    String tab;
+
+    @Label("Tab Index")
+    int index;
+}